@@ -0,0 +1,143 @@
+package com.camping.legacy.analytics;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 예약 컬럼 파일 (메모리 매핑)
+ *
+ * 레이아웃: [헤더 16바이트][id long * capacity][start int][end int][site int][status byte][price int]
+ * - start/end: epoch day (종료일 포함)
+ * - site: 캠핑장 id
+ * - status: ReservationStatusCode
+ * - price: 총 숙박 요금
+ *
+ * 행 단위 객체를 만들지 않고 절대 위치 get으로 읽으므로 수백만 행도 기본형 루프로 훑을 수 있다.
+ * 쓰기는 스레드 안전하지 않다. 동시 접근은 호출 쪽(ReservationSnapshotService)이 잠금으로 제어하며,
+ * 읽기 잠금 아래에서는 여러 스레드가 동시에 읽어도 된다 (위치를 바꾸지 않는 절대 get만 사용).
+ */
+public class ColumnarReservationFile {
+
+    private static final int MAGIC = 0x43525356; // "CRSV"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int ROW_COUNT_OFFSET = 12;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int idOffset;
+    private final int startOffset;
+    private final int endOffset;
+    private final int siteOffset;
+    private final int statusOffset;
+    private final int priceOffset;
+    private int rowCount;
+
+    private ColumnarReservationFile(Path path, MappedByteBuffer buffer, int capacity) {
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.idOffset = HEADER_SIZE;
+        this.startOffset = idOffset + capacity * Long.BYTES;
+        this.endOffset = startOffset + capacity * Integer.BYTES;
+        this.siteOffset = endOffset + capacity * Integer.BYTES;
+        this.statusOffset = siteOffset + capacity * Integer.BYTES;
+        this.priceOffset = statusOffset + capacity;
+    }
+
+    /**
+     * 빈 파일 생성 (기존 파일은 덮어씀)
+     */
+    public static ColumnarReservationFile create(Path path, int capacity) throws IOException {
+        long size = HEADER_SIZE + (long) capacity * (Long.BYTES + Integer.BYTES * 4 + 1);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("스냅샷 용량이 너무 큽니다: " + capacity);
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putInt(8, capacity);
+            buffer.putInt(ROW_COUNT_OFFSET, 0);
+            return new ColumnarReservationFile(path, buffer, capacity);
+        }
+    }
+
+    /**
+     * 용량을 늘린 새 파일로 복사
+     */
+    public ColumnarReservationFile grow(Path newPath, int newCapacity) throws IOException {
+        ColumnarReservationFile grown = create(newPath, newCapacity);
+        for (int row = 0; row < rowCount; row++) {
+            grown.append(id(row), start(row), end(row), site(row), status(row), price(row));
+        }
+        return grown;
+    }
+
+    public int append(long id, int start, int end, int site, byte status, int price) {
+        if (rowCount == capacity) {
+            return -1;
+        }
+        int row = rowCount;
+        set(row, id, start, end, site, status, price);
+        rowCount++;
+        buffer.putInt(ROW_COUNT_OFFSET, rowCount);
+        return row;
+    }
+
+    public void set(int row, long id, int start, int end, int site, byte status, int price) {
+        buffer.putLong(idOffset + row * Long.BYTES, id);
+        buffer.putInt(startOffset + row * Integer.BYTES, start);
+        buffer.putInt(endOffset + row * Integer.BYTES, end);
+        buffer.putInt(siteOffset + row * Integer.BYTES, site);
+        buffer.put(statusOffset + row, status);
+        buffer.putInt(priceOffset + row * Integer.BYTES, price);
+    }
+
+    public void force() {
+        buffer.force();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public long id(int row) {
+        return buffer.getLong(idOffset + row * Long.BYTES);
+    }
+
+    public int start(int row) {
+        return buffer.getInt(startOffset + row * Integer.BYTES);
+    }
+
+    public int end(int row) {
+        return buffer.getInt(endOffset + row * Integer.BYTES);
+    }
+
+    public int site(int row) {
+        return buffer.getInt(siteOffset + row * Integer.BYTES);
+    }
+
+    public byte status(int row) {
+        return buffer.get(statusOffset + row);
+    }
+
+    public int price(int row) {
+        return buffer.getInt(priceOffset + row * Integer.BYTES);
+    }
+}
@@ -0,0 +1,60 @@
+package com.camping.legacy.analytics;
+
+import java.time.YearMonth;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 달 동안의 사이트별 점유 구간 (run-length encoding)
+ *
+ * runs: [시작 일 오프셋(1일 = 0), 길이, 시작, 길이, ...] 정렬·병합된 상태
+ * 생성 후 바뀌지 않으므로 지난 달 결과는 그대로 캐시해 여러 요청이 공유한다.
+ */
+public final class MonthOccupancy {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final YearMonth month;
+    private final Map<Long, int[]> runsBySite;
+
+    private MonthOccupancy(YearMonth month, Map<Long, int[]> runsBySite) {
+        this.month = month;
+        this.runsBySite = runsBySite;
+    }
+
+    /**
+     * 사이트별 점유 일자 비트맵으로부터 생성
+     */
+    public static MonthOccupancy of(YearMonth month, Map<Long, BitSet> occupiedDays) {
+        Map<Long, int[]> runs = new HashMap<>();
+        occupiedDays.forEach((siteId, days) -> runs.put(siteId, encode(days)));
+        return new MonthOccupancy(month, Collections.unmodifiableMap(runs));
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * 사이트의 점유 구간 (호출 쪽에서 수정하면 안 된다)
+     */
+    public int[] runs(Long siteId) {
+        return runsBySite.getOrDefault(siteId, EMPTY);
+    }
+
+    private static int[] encode(BitSet days) {
+        int[] runs = new int[days.cardinality() * 2];
+        int size = 0;
+        for (int start = days.nextSetBit(0); start >= 0; ) {
+            int end = days.nextClearBit(start);
+            runs[size++] = start;
+            runs[size++] = end - start;
+            start = days.nextSetBit(end);
+        }
+        int[] compact = new int[size];
+        System.arraycopy(runs, 0, compact, 0, size);
+        return compact;
+    }
+}
@@ -0,0 +1,59 @@
+package com.camping.legacy.analytics;
+
+/**
+ * 월별 부분 집계 (fork-join 작업 단위마다 하나씩 만들고 마지막에 합친다)
+ * 월 인덱스는 조회 범위 첫 달을 0으로 한다.
+ */
+public class MonthlyBuckets {
+
+    private final int[] reservationCounts;
+    private final int[] cancelledCounts;
+    private final long[] revenues;
+    private final long[] stayDays;
+
+    public MonthlyBuckets(int months) {
+        this.reservationCounts = new int[months];
+        this.cancelledCounts = new int[months];
+        this.revenues = new long[months];
+        this.stayDays = new long[months];
+    }
+
+    public void add(int month, boolean cancelled, int price, int days) {
+        reservationCounts[month]++;
+        if (cancelled) {
+            cancelledCounts[month]++;
+        }
+        revenues[month] += price;
+        stayDays[month] += days;
+    }
+
+    public MonthlyBuckets merge(MonthlyBuckets other) {
+        for (int month = 0; month < reservationCounts.length; month++) {
+            reservationCounts[month] += other.reservationCounts[month];
+            cancelledCounts[month] += other.cancelledCounts[month];
+            revenues[month] += other.revenues[month];
+            stayDays[month] += other.stayDays[month];
+        }
+        return this;
+    }
+
+    public int months() {
+        return reservationCounts.length;
+    }
+
+    public int reservationCount(int month) {
+        return reservationCounts[month];
+    }
+
+    public int cancelledCount(int month) {
+        return cancelledCounts[month];
+    }
+
+    public long revenue(int month) {
+        return revenues[month];
+    }
+
+    public long stayDays(int month) {
+        return stayDays[month];
+    }
+}
@@ -0,0 +1,16 @@
+package com.camping.legacy.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기간 내 시작한 예약 집계 (월간 리포트용)
+ */
+@Getter
+@AllArgsConstructor
+public class MonthlyTotals {
+
+    private final int reservationCount;
+    private final long totalRevenue;
+    private final long totalStayDays;
+}
@@ -0,0 +1,60 @@
+package com.camping.legacy.analytics;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 스냅샷 행 구간을 반으로 나눠 가며 월별 부분 집계를 만드는 fork-join 작업
+ *
+ * 행이 월 순서로 정렬돼 있지 않으므로 월 단위가 아니라 행 구간 단위로 나누고,
+ * 각 작업은 조회 범위 전체 월에 대한 누적 배열을 가진다 (병합 비용은 월 수에 비례).
+ * 시작일 → 월 인덱스는 미리 만든 일자별 표(dayToMonth)로 바로 찾는다.
+ */
+public class RangeReportTask extends RecursiveTask<MonthlyBuckets> {
+
+    private static final int THRESHOLD = 64 * 1024;
+
+    private final ColumnarReservationFile snapshot;
+    private final int firstDay;
+    private final int[] dayToMonth;
+    private final int months;
+    private final int fromRow;
+    private final int toRow;
+
+    public RangeReportTask(ColumnarReservationFile snapshot, int firstDay, int[] dayToMonth, int months,
+                           int fromRow, int toRow) {
+        this.snapshot = snapshot;
+        this.firstDay = firstDay;
+        this.dayToMonth = dayToMonth;
+        this.months = months;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+
+    @Override
+    protected MonthlyBuckets compute() {
+        if (toRow - fromRow <= THRESHOLD) {
+            return scan();
+        }
+        int middle = (fromRow + toRow) >>> 1;
+        RangeReportTask left = new RangeReportTask(snapshot, firstDay, dayToMonth, months, fromRow, middle);
+        RangeReportTask right = new RangeReportTask(snapshot, firstDay, dayToMonth, months, middle, toRow);
+        left.fork();
+        MonthlyBuckets rightResult = right.compute();
+        return left.join().merge(rightResult);
+    }
+
+    private MonthlyBuckets scan() {
+        MonthlyBuckets buckets = new MonthlyBuckets(months);
+        int span = dayToMonth.length;
+        for (int row = fromRow; row < toRow; row++) {
+            int start = snapshot.start(row);
+            int offset = start - firstDay;
+            if (offset < 0 || offset >= span) {
+                continue;
+            }
+            buckets.add(dayToMonth[offset], ReservationStatusCode.isCancelled(snapshot.status(row)),
+                    snapshot.price(row), snapshot.end(row) - start);
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,48 @@
+package com.camping.legacy.analytics;
+
+/**
+ * 컬럼 파일의 예약 상태 코드 (1바이트)
+ */
+public final class ReservationStatusCode {
+
+    public static final byte CONFIRMED = 0;
+    public static final byte CANCELLED = 1;
+    public static final byte CANCELLED_SAME_DAY = 2;
+    public static final byte PENDING_PAYMENT = 3;
+    public static final byte PAYMENT_FAILED = 4;
+    public static final byte OTHER = 9;
+
+    private ReservationStatusCode() {
+    }
+
+    public static byte of(String status) {
+        if (status == null) {
+            return CONFIRMED;
+        }
+        switch (status) {
+            case "CONFIRMED":
+                return CONFIRMED;
+            case "CANCELLED":
+                return CANCELLED;
+            case "CANCELLED_SAME_DAY":
+                return CANCELLED_SAME_DAY;
+            case "PENDING_PAYMENT":
+                return PENDING_PAYMENT;
+            case "PAYMENT_FAILED":
+                return PAYMENT_FAILED;
+            default:
+                return OTHER;
+        }
+    }
+
+    public static boolean isCancelled(byte code) {
+        return code == CANCELLED || code == CANCELLED_SAME_DAY;
+    }
+
+    /**
+     * 사이트를 점유하는 상태 (취소/결제 실패 제외)
+     */
+    public static boolean isActive(byte code) {
+        return code != CANCELLED && code != CANCELLED_SAME_DAY && code != PAYMENT_FAILED;
+    }
+}
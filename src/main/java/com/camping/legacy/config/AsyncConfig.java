@@ -0,0 +1,86 @@
+package com.camping.legacy.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 비동기 작업용 스레드 풀 설정
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 결제 게이트웨이 호출 전용 풀
+     * 결제 지연이 요청 처리 스레드나 DB 커넥션 풀을 붙잡지 않도록 분리한다.
+     */
+    @Bean(name = "paymentExecutor")
+    public Executor paymentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("payment-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 예약 변경 이벤트 후처리 풀 (대기자 매칭 등)
+     * 예약/취소 응답이 후처리 때문에 늦어지지 않도록 커밋 이후 작업을 분리한다.
+     */
+    @Bean(name = "eventExecutor")
+    public Executor eventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("event-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대기열(waiting room) 처리 풀
+     * 동시에 DB에 들어가는 예약 요청 수를 풀 크기로 제한한다.
+     */
+    @Bean(name = "waitingRoomExecutor")
+    public Executor waitingRoomExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("waiting-room-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SSE 전송 풀 (가용성 변경 스트림)
+     * 느린 클라이언트에 쓰는 동안 이벤트 발행 스레드가 막히지 않도록 분리한다.
+     */
+    @Bean(name = "sseExecutor")
+    public Executor sseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 기간 리포트 집계 풀 (fork-join)
+     * 공용 풀(commonPool)을 쓰는 다른 병렬 스트림과 CPU를 나눠 쓰지 않도록 분리한다.
+     */
+    @Bean(name = "reportPool", destroyMethod = "shutdown")
+    public ForkJoinPool reportPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+}
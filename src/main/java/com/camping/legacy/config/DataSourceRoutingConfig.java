@@ -0,0 +1,106 @@
+package com.camping.legacy.config;
+
+import com.camping.legacy.datasource.ReadWriteRoutingDataSource;
+import com.camping.legacy.datasource.ReadYourWritesFilter;
+import com.camping.legacy.datasource.ReadYourWritesTracker;
+import com.camping.legacy.datasource.ReplicaSyncService;
+import com.camping.legacy.web.ClientKeys;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 데이터소스 설정
+ * camping.datasource.routing.enabled=true 일 때만 적용된다 (replica 프로필 참고).
+ *
+ * 주 DB는 spring.datasource.*, 복제본은 camping.datasource.replica-urls (쉼표 구분)로 지정한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "camping.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Value("${camping.datasource.replica-urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${camping.datasource.replica-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Bean
+    public HikariDataSource primaryPool(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${camping.datasource.read-your-writes-ms:3000}") long windowMillis) {
+        return new ReadYourWritesTracker(windowMillis, 100000);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryPool") HikariDataSource primaryPool,
+            DataSourceProperties properties,
+            ReadYourWritesTracker readYourWritesTracker,
+            @Lazy ReplicaSyncService replicaSyncService) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        pools.put(ReadWriteRoutingDataSource.PRIMARY, primaryPool);
+        List<String> replicaKeys = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String key = "replica-" + (i + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(key);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            pools.put(key, replica);
+            replicaKeys.add(key);
+        }
+        return new ReadWriteRoutingDataSource(pools, replicaKeys, readYourWritesTracker, replicaSyncService::isHealthy);
+    }
+
+    /**
+     * JPA/트랜잭션 매니저가 사용하는 데이터소스
+     * 커넥션을 첫 SQL 실행까지 미뤄야 트랜잭션의 readOnly 여부로 라우팅할 수 있다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaSyncService replicaSyncService(
+            @Qualifier("primaryPool") HikariDataSource primaryPool,
+            ReadWriteRoutingDataSource readWriteRoutingDataSource,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${camping.datasource.max-replica-lag-ms:1000}") long maxLagMillis) {
+        return new ReplicaSyncService(primaryPool, readWriteRoutingDataSource.getReplicaPools(),
+                entityManagerFactory, maxLagMillis);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ClientKeys clientKeys) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(clientKeys));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
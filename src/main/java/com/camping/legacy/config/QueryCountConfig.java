@@ -0,0 +1,36 @@
+package com.camping.legacy.config;
+
+import com.camping.legacy.monitoring.QueryCountFilter;
+import com.camping.legacy.monitoring.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 횟수 계측 설정
+ *
+ * - StatementInspector는 항상 등록 (카운트 비용은 ThreadLocal 증가 1회)
+ * - 응답 헤더 노출은 camping.query-count.header-enabled=true 일 때만 (dev 프로필)
+ */
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "camping.query-count.header-enabled", havingValue = "true")
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            @Value("${camping.query-count.warn-threshold:10}") int warnThreshold) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(warnThreshold));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
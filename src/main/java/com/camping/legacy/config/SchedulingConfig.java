@@ -0,0 +1,12 @@
+package com.camping.legacy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (예약 홀드 만료 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
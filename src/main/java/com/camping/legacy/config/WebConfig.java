@@ -0,0 +1,79 @@
+package com.camping.legacy.config;
+
+import com.camping.legacy.web.AdminAuthInterceptor;
+import com.camping.legacy.web.ClientKeys;
+import com.camping.legacy.web.RateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web MVC 설정 (요청 제한, 운영자 인증 인터셉터 등록)
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${camping.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${camping.rate-limit.booking-per-minute:20}")
+    private long bookingPerMinute;
+
+    @Value("${camping.rate-limit.search-per-minute:60}")
+    private long searchPerMinute;
+
+    @Value("${camping.rate-limit.calendar-per-minute:60}")
+    private long calendarPerMinute;
+
+    @Value("${camping.rate-limit.default-per-minute:300}")
+    private long defaultPerMinute;
+
+    @Value("${camping.rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    // 발급된 API 키 목록 (등록되지 않은 키는 IP로 식별)
+    @Value("${camping.api-keys:}")
+    private List<String> apiKeys;
+
+    // 운영자 API 토큰 (비어 있으면 /api/admin/** 전체 거부)
+    @Value("${camping.admin.token:}")
+    private String adminToken;
+
+    @Bean
+    public ClientKeys clientKeys() {
+        return new ClientKeys(apiKeys);
+    }
+
+    /**
+     * 정책은 위에서부터 처음 일치하는 것이 적용된다.
+     */
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor() {
+        return new RateLimitInterceptor(List.of(
+                new RateLimitInterceptor.Policy("booking", "POST", "/api/reservations", bookingPerMinute, 5),
+                new RateLimitInterceptor.Policy("search", null, "/api/sites/search", searchPerMinute, 10),
+                new RateLimitInterceptor.Policy("calendar", null, "/api/reservations/calendar", calendarPerMinute, 10),
+                new RateLimitInterceptor.Policy("default", null, "/api/", defaultPerMinute, 50)
+        ), maxBuckets, clientKeys());
+    }
+
+    @Bean
+    public AdminAuthInterceptor adminAuthInterceptor() {
+        return new AdminAuthInterceptor(adminToken);
+    }
+
+    /**
+     * 요청 제한을 먼저 적용해 운영자 토큰을 반복 대입하는 요청도 제한한다.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (rateLimitEnabled) {
+            registry.addInterceptor(rateLimitInterceptor()).addPathPatterns("/api/**");
+        }
+        registry.addInterceptor(adminAuthInterceptor()).addPathPatterns("/api/admin/**");
+    }
+}
@@ -0,0 +1,88 @@
+package com.camping.legacy.controller;
+
+import com.camping.legacy.datasource.ReadWriteRoutingDataSource;
+import com.camping.legacy.datasource.ReplicaSyncService;
+import com.camping.legacy.dto.ImportResult;
+import com.camping.legacy.dto.SiteClosureRequest;
+import com.camping.legacy.dto.SiteClosureResponse;
+import com.camping.legacy.service.ReservationArchiveService;
+import com.camping.legacy.service.ReservationImportService;
+import com.camping.legacy.service.SiteClosureService;
+import com.camping.legacy.web.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 운영자용 API
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final ReservationImportService reservationImportService;
+    private final ReservationArchiveService reservationArchiveService;
+    private final SiteClosureService siteClosureService;
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+    private final ObjectProvider<ReplicaSyncService> replicaSyncService;
+
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, Object>> getRateLimitStatistics() {
+        return ResponseEntity.ok(rateLimitInterceptor.getStatistics());
+    }
+
+    /**
+     * 데이터소스 풀별 통계 (라우팅이 켜져 있을 때만 내용이 있음)
+     */
+    @GetMapping("/datasources")
+    public ResponseEntity<Map<String, Object>> getDataSourceStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        routingDataSource.ifAvailable(dataSource -> statistics.put("pools", dataSource.getStatistics()));
+        replicaSyncService.ifAvailable(service -> statistics.put("replication", service.getStatistics()));
+        return ResponseEntity.ok(statistics);
+    }
+
+    /**
+     * 예약 대량 가져오기
+     * Content-Type: text/csv 또는 application/x-ndjson (본문을 스트리밍으로 처리)
+     */
+    @PostMapping(value = "/reservations/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResult> importReservations(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        boolean csv = contentType.startsWith("text/csv");
+        return ResponseEntity.ok(reservationImportService.importReservations(body, csv));
+    }
+
+    /**
+     * 지난 예약 보관 즉시 실행 (평소에는 매일 새벽 스케줄로 실행)
+     */
+    @PostMapping("/reservations/archive")
+    public ResponseEntity<Map<String, Object>> archiveReservations() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("archived", reservationArchiveService.archive());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사이트 일괄 폐쇄: 기간과 겹치는 유효 예약을 모두 취소 (확인 코드 없이), 이후 그 기간은 예약할 수 없다
+     */
+    @PostMapping("/sites/closures")
+    public ResponseEntity<SiteClosureResponse> closeSites(@RequestBody SiteClosureRequest request) {
+        return ResponseEntity.ok(siteClosureService.closeSites(request));
+    }
+}
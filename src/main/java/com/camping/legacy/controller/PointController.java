@@ -0,0 +1,54 @@
+package com.camping.legacy.controller;
+
+import com.camping.legacy.dto.PointBalanceResponse;
+import com.camping.legacy.dto.PointRedeemRequest;
+import com.camping.legacy.dto.PointTransactionResponse;
+import com.camping.legacy.service.PointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 포인트 API
+ */
+@RestController
+@RequestMapping("/api/points")
+@RequiredArgsConstructor
+public class PointController {
+
+    private final PointService pointService;
+
+    /**
+     * 포인트 잔액 조회
+     * 예: /api/points/balance?phoneNumber=010-1234-5678
+     */
+    @GetMapping("/balance")
+    public ResponseEntity<PointBalanceResponse> getBalance(@RequestParam String phoneNumber) {
+        return ResponseEntity.ok(pointService.getBalance(phoneNumber));
+    }
+
+    /**
+     * 포인트 적립/사용 내역 (최신순)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<PointTransactionResponse>> getHistory(
+            @RequestParam String phoneNumber,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(pointService.getHistory(phoneNumber, limit));
+    }
+
+    /**
+     * 포인트 사용 (예약 확인 코드로 본인 확인)
+     */
+    @PostMapping("/redeem")
+    public ResponseEntity<PointBalanceResponse> redeem(@RequestBody PointRedeemRequest request) {
+        return ResponseEntity.ok(pointService.redeem(request));
+    }
+}
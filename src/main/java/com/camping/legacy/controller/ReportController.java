@@ -0,0 +1,52 @@
+package com.camping.legacy.controller;
+
+import com.camping.legacy.dto.OccupancyResponse;
+import com.camping.legacy.dto.RangeReportResponse;
+import com.camping.legacy.service.OccupancyAnalyticsService;
+import com.camping.legacy.service.RangeReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 리포트 API
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final RangeReportService rangeReportService;
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+
+    /**
+     * 기간 리포트 (월별 건수/매출/취소율/평균 숙박일)
+     * 예: /api/reports/range?from=2020-01&to=2024-12
+     */
+    @GetMapping("/range")
+    public ResponseEntity<RangeReportResponse> getRangeReport(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        RangeReportResponse response = rangeReportService.generateRangeReport(from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사이트 × 일자 점유 히트맵과 등급별 평일/주말 점유율
+     * 예: /api/reports/occupancy?from=2024-07-01&to=2024-08-31
+     */
+    @GetMapping("/occupancy")
+    public ResponseEntity<OccupancyResponse> getOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        OccupancyResponse response = occupancyAnalyticsService.getOccupancy(from, to);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,20 +1,39 @@
 package com.camping.legacy.controller;
 
+import com.camping.legacy.dto.AlternativeResponse;
 import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.dto.GroupReservationRequest;
+import com.camping.legacy.dto.GroupReservationResponse;
+import com.camping.legacy.dto.HoldResponse;
 import com.camping.legacy.dto.ReservationRequest;
 import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.WaitingTicketResponse;
+import com.camping.legacy.exception.ReservationConflictException;
+import com.camping.legacy.service.AlternativeSuggestionService;
 import com.camping.legacy.service.CalendarService;
+import com.camping.legacy.service.GroupReservationService;
+import com.camping.legacy.service.IdempotencyService;
+import com.camping.legacy.service.ReservationHoldService;
+import com.camping.legacy.service.ReservationPaymentService;
 import com.camping.legacy.service.ReservationService;
+import com.camping.legacy.service.ReservationUpdateService;
+import com.camping.legacy.service.ResourceVersionService;
+import com.camping.legacy.service.SiteService;
+import com.camping.legacy.service.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/reservations")
@@ -22,34 +41,157 @@ import java.util.Map;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationUpdateService reservationUpdateService;
+    private final ReservationPaymentService reservationPaymentService;
+    private final ReservationHoldService reservationHoldService;
+    private final IdempotencyService idempotencyService;
+    private final WaitingRoomService waitingRoomService;
+    private final GroupReservationService groupReservationService;
+    private final AlternativeSuggestionService alternativeSuggestionService;
+    private final ResourceVersionService resourceVersionService;
+    private final SiteService siteService;
 
     // CalendarService는 Deprecated 되었으나 하위 호환성을 위해 유지
     // 실제로는 ReservationService의 캘린더 메서드를 사용함
     // @Deprecated
     // private final CalendarService calendarService;
     
+    /**
+     * 예약 생성
+     * Idempotency-Key 헤더가 있으면 재시도 요청에 최초 응답을 그대로 돌려준다.
+     */
     @PostMapping
-    public ResponseEntity<?> createReservation(@RequestBody ReservationRequest request) {
+    public ResponseEntity<?> createReservation(
+            @RequestBody ReservationRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return doCreateReservation(request);
+        }
+        return executeIdempotently("reservations", idempotencyKey, fingerprint(request),
+                () -> doCreateReservation(request));
+    }
+    
+    private ResponseEntity<?> doCreateReservation(ReservationRequest request) {
         try {
             ReservationResponse response = reservationService.createReservation(request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (RuntimeException e) {
-            Map<String, String> error = new HashMap<>();
+        } catch (ReservationConflictException e) {
+            // 다시 검색하지 않도록 가장 가까운 대안을 함께 돌려준다
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", e.getErrorCode().name());
             error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+            error.put("alternatives", alternativeSuggestionService.suggest(
+                    request.getSiteNumber(), request.getStartDate(), request.getEndDate()));
+            return ResponseEntity.status(e.getErrorCode().getStatus()).body(error);
+        }
+    }
+    
+    /**
+     * 결제 포함 예약
+     * PENDING_PAYMENT 상태로 즉시 응답(202)하고 결제 결과는 예약 조회로 확인한다.
+     */
+    @PostMapping("/payment")
+    public ResponseEntity<?> createReservationWithPayment(
+            @RequestBody ReservationRequest request,
+            @RequestParam String paymentMethod,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return doCreateReservationWithPayment(request, paymentMethod);
         }
+        return executeIdempotently("reservations-payment", idempotencyKey, fingerprint(request) + paymentMethod,
+                () -> doCreateReservationWithPayment(request, paymentMethod));
+    }
+    
+    private ResponseEntity<?> doCreateReservationWithPayment(ReservationRequest request, String paymentMethod) {
+        ReservationResponse response = reservationPaymentService.reserveWithPayment(request, paymentMethod);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    /**
+     * 단체 예약 (여러 사이트를 한 번에, 전부 성공하거나 전부 실패)
+     * 충돌 시 409와 함께 충돌한 사이트 목록(conflictedSites)을 돌려준다.
+     */
+    @PostMapping("/group")
+    public ResponseEntity<?> createGroupReservation(
+            @RequestBody GroupReservationRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return doCreateGroupReservation(request);
+        }
+        String fingerprint = IdempotencyService.fingerprint(
+                request.getCustomerName(), request.getPhoneNumber(), request.getStartDate(), request.getEndDate(),
+                request.getSiteNumbers());
+        return executeIdempotently("reservations-group", idempotencyKey, fingerprint,
+                () -> doCreateGroupReservation(request));
+    }
+    
+    private ResponseEntity<?> doCreateGroupReservation(GroupReservationRequest request) {
+        GroupReservationResponse response = groupReservationService.createGroupReservation(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    private ResponseEntity<?> executeIdempotently(String scope, String idempotencyKey, String fingerprint,
+                                                  Supplier<ResponseEntity<?>> action) {
+        return idempotencyService.execute(scope, idempotencyKey, fingerprint, action);
+    }
+    
+    private String fingerprint(ReservationRequest request) {
+        return IdempotencyService.fingerprint(
+                request.getCustomerName(), request.getStartDate(), request.getEndDate(),
+                request.getSiteNumber(), request.getPhoneNumber(), request.getNumberOfPeople(),
+                request.getCarNumber(), request.getRequests(), request.getHoldToken());
+    }
+    
+    /**
+     * 대기열 예약 (성수기 예약 오픈 등 요청이 몰릴 때)
+     * 티켓을 발급하고(202) 결과는 GET /api/reservations/queue/{ticketId}로 조회한다.
+     */
+    @PostMapping("/queue")
+    public ResponseEntity<?> enqueueReservation(@RequestBody ReservationRequest request) {
+        WaitingTicketResponse response = waitingRoomService.enqueue(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    @GetMapping("/queue/{ticketId}")
+    public ResponseEntity<?> getWaitingTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(waitingRoomService.getTicket(ticketId));
+    }
+    
+    /**
+     * 예약 홀드 생성 (예약 폼 작성 중 사이트 임시 선점)
+     * 발급된 holdToken을 예약 요청에 담아 보내면 홀드가 예약으로 전환된다.
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<?> createHold(@RequestBody ReservationRequest request) {
+        HoldResponse response = reservationHoldService.hold(
+                request.getSiteNumber(), request.getStartDate(), request.getEndDate());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @DeleteMapping("/holds/{holdToken}")
+    public ResponseEntity<Void> releaseHold(@PathVariable String holdToken) {
+        reservationHoldService.release(holdToken);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 대안 예약 추천 (같은 사이트의 가까운 날짜, 같은 크기 사이트의 같은 날짜)
+     */
+    @GetMapping("/alternatives")
+    public ResponseEntity<?> getAlternatives(
+            @RequestParam String siteNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "5") int limit) {
+        List<AlternativeResponse> alternatives =
+                alternativeSuggestionService.suggest(siteNumber, startDate, endDate, limit);
+        return ResponseEntity.ok(alternatives);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<?> getReservation(@PathVariable Long id) {
-        try {
-            ReservationResponse response = reservationService.getReservation(id);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-        }
+        ReservationResponse response = reservationService.getReservation(id);
+        return ResponseEntity.ok(response);
     }
     
     @GetMapping
@@ -70,16 +212,10 @@ public class ReservationController {
     public ResponseEntity<?> cancelReservation(
             @PathVariable Long id,
             @RequestParam String confirmationCode) {
-        try {
-            reservationService.cancelReservation(id, confirmationCode);
-            Map<String, String> response = new HashMap<>();
-            response.put("message", "예약이 취소되었습니다.");
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-        }
+        reservationService.cancelReservation(id, confirmationCode);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "예약이 취소되었습니다.");
+        return ResponseEntity.ok(response);
     }
     
     @PutMapping("/{id}")
@@ -87,14 +223,8 @@ public class ReservationController {
             @PathVariable Long id,
             @RequestBody ReservationRequest request,
             @RequestParam String confirmationCode) {
-        try {
-            ReservationResponse response = reservationService.updateReservation(id, request, confirmationCode);
-            return ResponseEntity.ok(response);
-        } catch (RuntimeException e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-        }
+        ReservationResponse response = reservationUpdateService.updateReservation(id, request, confirmationCode);
+        return ResponseEntity.ok(response);
     }
     
     @GetMapping("/my")
@@ -115,11 +245,23 @@ public class ReservationController {
     public ResponseEntity<CalendarResponse> getReservationCalendar(
             @RequestParam Integer year,
             @RequestParam Integer month,
-            @RequestParam Long siteId) {
+            @RequestParam Long siteId,
+            WebRequest webRequest) {
+        // 없는 사이트는 If-None-Match와 관계없이 404 (조건부가 아니면 캘린더 조회가 404를 낸다)
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            siteService.requireSite(siteId);
+        }
+
+        // 사이트-월 단위 버전으로 ETag 발급 (변경이 없으면 예약 조회 없이 304)
+        String eTag = resourceVersionService.calendarETag(siteId, YearMonth.of(year, month));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         // 구 방식 (주석 처리됨)
         // return ResponseEntity.ok(calendarService.getMonthlyCalendar(year, month, siteId));
 
         // 신규 방식 (ReservationService 사용)
-        return ResponseEntity.ok(reservationService.getMonthlyCalendar(year, month, siteId));
+        return ResponseEntity.ok().eTag(eTag).body(reservationService.getMonthlyCalendar(year, month, siteId));
     }
 }
\ No newline at end of file
@@ -3,16 +3,26 @@ package com.camping.legacy.controller;
 import com.camping.legacy.dto.SiteAvailabilityResponse;
 import com.camping.legacy.dto.SiteResponse;
 import com.camping.legacy.dto.SiteSearchRequest;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.service.AvailabilityStreamService;
+import com.camping.legacy.service.ResourceVersionService;
 import com.camping.legacy.service.SiteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
 
 @RestController
@@ -21,15 +31,32 @@ import java.util.List;
 public class SiteController {
     
     private final SiteService siteService;
+    private final ResourceVersionService resourceVersionService;
+    private final AvailabilityStreamService availabilityStreamService;
     
+    /**
+     * 아래 조회 API는 ETag를 내려주고, If-None-Match가 일치하면 본문 조회 없이 304를 응답한다.
+     * 사이트 id를 받는 API는 조건부 요청일 때 없는 사이트가 304를 받지 않도록 존재 여부만 먼저 확인한다.
+     */
     @GetMapping
-    public ResponseEntity<List<SiteResponse>> getAllSites() {
-        return ResponseEntity.ok(siteService.getAllSites());
+    public ResponseEntity<List<SiteResponse>> getAllSites(WebRequest webRequest) {
+        String eTag = resourceVersionService.sitesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(siteService.getAllSites());
     }
     
     @GetMapping("/{siteId}")
-    public ResponseEntity<SiteResponse> getSiteDetail(@PathVariable Long siteId) {
-        return ResponseEntity.ok(siteService.getSiteById(siteId));
+    public ResponseEntity<SiteResponse> getSiteDetail(@PathVariable Long siteId, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            siteService.requireSite(siteId);
+        }
+        String eTag = resourceVersionService.siteETag(siteId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(siteService.getSiteById(siteId));
     }
     
     @GetMapping("/{siteNumber}/availability")
@@ -47,10 +74,37 @@ public class SiteController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 가용성 변경 스트림 (SSE)
+     * 날짜별 폴링 대신 구독해두면 예약/취소/변경 시 해당 사이트와 기간만 전달된다.
+     * siteNumber는 여러 번 지정할 수 있고, from/to로 관심 기간을 좁힐 수 있다.
+     */
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(
+            @RequestParam(required = false) List<String> siteNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료일이 시작일보다 이전일 수 없습니다.");
+        }
+        try {
+            return availabilityStreamService.subscribe(
+                    siteNumber != null ? new HashSet<>(siteNumber) : new HashSet<>(), from, to);
+        } catch (CampingException e) {
+            // 이벤트 스트림 요청이라 JSON 오류 본문 대신 상태 코드로만 알린다
+            throw new ResponseStatusException(e.getErrorCode().getStatus(), e.getMessage());
+        }
+    }
+    
     @GetMapping("/available")
     public ResponseEntity<List<SiteAvailabilityResponse>> getAvailableSites(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        return ResponseEntity.ok(siteService.getAvailableSites(date));
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        String eTag = resourceVersionService.availabilityETag(date);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(siteService.getAvailableSites(date));
     }
     
     @GetMapping("/search")
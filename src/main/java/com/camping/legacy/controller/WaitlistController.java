@@ -0,0 +1,39 @@
+package com.camping.legacy.controller;
+
+import com.camping.legacy.dto.WaitlistRequest;
+import com.camping.legacy.dto.WaitlistResponse;
+import com.camping.legacy.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    public ResponseEntity<?> register(@RequestBody WaitlistRequest request) {
+        WaitlistResponse response = waitlistService.register(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getEntry(@PathVariable Long id) {
+        return ResponseEntity.ok(waitlistService.getEntry(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> cancel(@PathVariable Long id, @RequestParam String phoneNumber) {
+        waitlistService.cancel(id, phoneNumber);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "대기 신청이 취소되었습니다.");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,107 @@
+package com.camping.legacy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅
+ *
+ * - readOnly 트랜잭션은 복제본(라운드로빈), 그 외는 주 DB
+ * - 복제본이 준비되지 않았거나 지연이 크면(replicaHealthy == false) 주 DB
+ * - 방금 쓰기를 한 클라이언트의 읽기는 주 DB (ReadYourWritesTracker)
+ *
+ * 트랜잭션의 readOnly 여부는 커넥션을 얻은 뒤에 설정되므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 라우팅해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, HikariDataSource> pools;
+    private final List<String> replicaKeys;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final BooleanSupplier replicaHealthy;
+
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final Map<String, LongAdder> checkouts = new HashMap<>();
+    private final LongAdder readYourWritesRedirects = new LongAdder();
+    private final LongAdder unhealthyRedirects = new LongAdder();
+
+    public ReadWriteRoutingDataSource(Map<String, HikariDataSource> pools, List<String> replicaKeys,
+                                      ReadYourWritesTracker readYourWritesTracker, BooleanSupplier replicaHealthy) {
+        this.pools = pools;
+        this.replicaKeys = replicaKeys;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaHealthy = replicaHealthy;
+        pools.keySet().forEach(key -> checkouts.put(key, new LongAdder()));
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(PRIMARY));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = route();
+        checkouts.get(key).increment();
+        return key;
+    }
+
+    private String route() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty()) {
+            return PRIMARY;
+        }
+        if (!replicaHealthy.getAsBoolean()) {
+            unhealthyRedirects.increment();
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.mustReadPrimary()) {
+            readYourWritesRedirects.increment();
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(roundRobin.getAndIncrement(), replicaKeys.size()));
+    }
+
+    public Map<String, HikariDataSource> getReplicaPools() {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicaKeys.forEach(key -> replicas.put(key, pools.get(key)));
+        return replicas;
+    }
+
+    /**
+     * 풀별 커넥션 획득 횟수와 Hikari 풀 상태
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        for (Map.Entry<String, HikariDataSource> entry : pools.entrySet()) {
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("checkouts", checkouts.get(entry.getKey()).sum());
+            HikariPoolMXBean mxBean = entry.getValue().getHikariPoolMXBean();
+            if (mxBean != null) {
+                pool.put("active", mxBean.getActiveConnections());
+                pool.put("idle", mxBean.getIdleConnections());
+                pool.put("total", mxBean.getTotalConnections());
+                pool.put("threadsAwaiting", mxBean.getThreadsAwaitingConnection());
+            }
+            statistics.put(entry.getKey(), pool);
+        }
+        statistics.put("readYourWritesRedirects", readYourWritesRedirects.sum());
+        statistics.put("unhealthyReplicaRedirects", unhealthyRedirects.sum());
+        return statistics;
+    }
+}
@@ -0,0 +1,33 @@
+package com.camping.legacy.datasource;
+
+import com.camping.legacy.web.ClientKeys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 스레드에 클라이언트 키를 바인딩한다 (ReadYourWritesTracker에서 사용)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ClientKeys clientKeys;
+
+    public ReadYourWritesFilter(ClientKeys clientKeys) {
+        this.clientKeys = clientKeys;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWritesTracker.bind(clientKeys.resolve(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesTracker.unbind();
+        }
+    }
+}
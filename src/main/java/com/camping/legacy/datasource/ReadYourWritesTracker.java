@@ -0,0 +1,59 @@
+package com.camping.legacy.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 일관성 보장 (read-your-writes)
+ *
+ * 쓰기 트랜잭션을 실행한 클라이언트는 window 동안 읽기도 주 DB에서 하도록 한다.
+ * 방금 예약한 고객이 복제가 끝나기 전의 복제본을 읽어 "예약이 없다"고 보는 일을 막는다.
+ * 클라이언트 식별은 요청 스레드에 바인딩된 키(ReadYourWritesFilter)를 사용한다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final long windowMillis;
+    private final LinkedHashMap<String, Long> lastWriteAt;
+
+    public ReadYourWritesTracker(long windowMillis, int maxClients) {
+        this.windowMillis = windowMillis;
+        this.lastWriteAt = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxClients;
+            }
+        };
+    }
+
+    public static void bind(String clientKey) {
+        CURRENT_CLIENT.set(clientKey);
+    }
+
+    public static void unbind() {
+        CURRENT_CLIENT.remove();
+    }
+
+    public void markWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return;
+        }
+        synchronized (lastWriteAt) {
+            lastWriteAt.put(client, System.currentTimeMillis());
+        }
+    }
+
+    public boolean mustReadPrimary() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return false;
+        }
+        Long writtenAt;
+        synchronized (lastWriteAt) {
+            writtenAt = lastWriteAt.get(client);
+        }
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < windowMillis;
+    }
+}
@@ -0,0 +1,29 @@
+package com.camping.legacy.datasource;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 복제본 변경 피드 (JPA 엔티티 리스너)
+ * 라우팅이 꺼져 있으면 ReplicaSyncService 빈이 없으므로 아무 일도 하지 않는다.
+ */
+public class ReplicaChangeListener {
+
+    private final ObjectProvider<ReplicaSyncService> replicaSyncService;
+
+    public ReplicaChangeListener(ObjectProvider<ReplicaSyncService> replicaSyncService) {
+        this.replicaSyncService = replicaSyncService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        ReplicaSyncService service = replicaSyncService.getIfAvailable();
+        if (service != null) {
+            service.registerChange(entity);
+        }
+    }
+}
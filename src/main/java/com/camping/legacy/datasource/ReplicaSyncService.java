@@ -0,0 +1,247 @@
+package com.camping.legacy.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 테스트용 복제본 동기화 (H2 두 개를 애플리케이션의 변경 피드로 맞춘다)
+ *
+ * 1. 시작 시: 주 DB를 SCRIPT로 덤프해 복제본에 그대로 실행 (스키마 + 초기 데이터)
+ * 2. 이후: 엔티티 변경(ReplicaChangeListener)을 트랜잭션별로 모았다가 커밋 후
+ *    단일 스레드에서 주 DB의 행을 읽어 복제본에 MERGE (행이 없으면 DELETE)
+ *
+ * 복제는 비동기이므로 지연이 있다. 반영되지 않은 변경이 max-lag 이상 밀려 있거나
+ * 동기화에 실패하면 isHealthy()가 false가 되어 읽기도 주 DB로 보낸다. 실패한 경우 주기적으로 전체 복제를 다시 시도한다.
+ * JPQL 벌크 UPDATE/DELETE는 엔티티 리스너를 거치지 않으므로 호출한 쪽에서 resyncTable()을 불러야 한다.
+ * resyncTable()은 복제본마다 한 트랜잭션으로 지우고 다시 채우므로, 복제본 읽기는 비었거나 일부만 채워진 테이블을 보지 않는다.
+ */
+@Slf4j
+public class ReplicaSyncService {
+
+    private static final String PENDING_KEY = ReplicaSyncService.class.getName() + ".PENDING";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas;
+    private final Map<String, TransactionTemplate> replicaTransactions;
+    private final EntityManagerFactory entityManagerFactory;
+    private final long maxLagMillis;
+
+    private final ExecutorService applier = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "replica-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean ready;
+    private volatile boolean failed;
+    private final AtomicInteger pendingBatches = new AtomicInteger();
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final LongAdder appliedRows = new LongAdder();
+
+    public ReplicaSyncService(DataSource primary, Map<String, ? extends DataSource> replicas,
+                              EntityManagerFactory entityManagerFactory, long maxLagMillis) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = new LinkedHashMap<>();
+        this.replicaTransactions = new LinkedHashMap<>();
+        replicas.forEach((key, dataSource) -> {
+            this.replicas.put(key, new JdbcTemplate(dataSource));
+            this.replicaTransactions.put(key, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        });
+        this.entityManagerFactory = entityManagerFactory;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public boolean isHealthy() {
+        if (!ready || failed) {
+            return false;
+        }
+        long oldest = oldestPendingAt.get();
+        return oldest == 0 || System.currentTimeMillis() - oldest < maxLagMillis;
+    }
+
+    /**
+     * data.sql 실행이 끝난 뒤 복제본 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        cloneAll();
+    }
+
+    @Scheduled(fixedDelay = 30000)
+    public void recoverIfFailed() {
+        if (failed) {
+            cloneAll();
+        }
+    }
+
+    /**
+     * 엔티티 리스너에서 호출: 현재 트랜잭션이 커밋되면 해당 행을 복제한다
+     */
+    public void registerChange(Object entity) {
+        Table table = entity.getClass().getAnnotation(Table.class);
+        Object id = entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+        if (table == null || id == null) {
+            return;
+        }
+        RowKey rowKey = new RowKey(table.name(), id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(Set.of(rowKey));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<RowKey> pending = (Set<RowKey>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<RowKey> rows = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, rows);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                    if (status == STATUS_COMMITTED) {
+                        submit(rows);
+                    }
+                }
+            });
+            pending = rows;
+        }
+        pending.add(rowKey);
+    }
+
+    /**
+     * 벌크 쿼리 이후 테이블 전체를 다시 복제
+     */
+    public void resyncTable(String tableName) {
+        pendingBatches.incrementAndGet();
+        oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        applier.execute(() -> {
+            try {
+                List<Map<String, Object>> rows = primary.queryForList("SELECT * FROM " + tableName);
+                for (Map.Entry<String, JdbcTemplate> replica : replicas.entrySet()) {
+                    // 삭제와 재적재를 한 트랜잭션으로 묶어 커밋 전까지 복제본 읽기는 이전 내용을 본다
+                    replicaTransactions.get(replica.getKey()).executeWithoutResult(status -> {
+                        replica.getValue().update("DELETE FROM " + tableName);
+                        for (Map<String, Object> row : rows) {
+                            merge(replica.getValue(), tableName, row);
+                        }
+                    });
+                }
+                appliedRows.add(rows.size());
+            } catch (RuntimeException e) {
+                markFailed(e);
+            } finally {
+                finishBatch();
+            }
+        });
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("ready", ready);
+        statistics.put("failed", failed);
+        statistics.put("healthy", isHealthy());
+        statistics.put("pendingBatches", pendingBatches.get());
+        long oldest = oldestPendingAt.get();
+        statistics.put("lagMillis", oldest == 0 ? 0 : System.currentTimeMillis() - oldest);
+        statistics.put("appliedRows", appliedRows.sum());
+        return statistics;
+    }
+
+    private void submit(Set<RowKey> rows) {
+        List<RowKey> snapshot = new ArrayList<>(rows);
+        pendingBatches.incrementAndGet();
+        oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        applier.execute(() -> {
+            try {
+                for (RowKey rowKey : snapshot) {
+                    apply(rowKey);
+                }
+                appliedRows.add(snapshot.size());
+            } catch (RuntimeException e) {
+                markFailed(e);
+            } finally {
+                finishBatch();
+            }
+        });
+    }
+
+    private void apply(RowKey rowKey) {
+        List<Map<String, Object>> rows =
+                primary.queryForList("SELECT * FROM " + rowKey.table + " WHERE id = ?", rowKey.id);
+        for (JdbcTemplate replica : replicas.values()) {
+            if (rows.isEmpty()) {
+                replica.update("DELETE FROM " + rowKey.table + " WHERE id = ?", rowKey.id);
+            } else {
+                merge(replica, rowKey.table, rows.get(0));
+            }
+        }
+    }
+
+    private void merge(JdbcTemplate replica, String table, Map<String, Object> row) {
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(table).append(" (");
+        sql.append(String.join(", ", row.keySet())).append(") KEY (ID) VALUES (");
+        sql.append("?, ".repeat(row.size() - 1)).append("?)");
+        replica.update(sql.toString(), row.values().toArray());
+    }
+
+    private void cloneAll() {
+        applier.execute(() -> {
+            try {
+                List<String> statements = primary.queryForList("SCRIPT NOPASSWORDS NOSETTINGS DROP", String.class);
+                for (Map.Entry<String, JdbcTemplate> replica : replicas.entrySet()) {
+                    for (String statement : statements) {
+                        if (statement.startsWith("CREATE USER")) {
+                            continue;
+                        }
+                        replica.getValue().execute(statement);
+                    }
+                    log.info("복제본 초기화 완료: {} ({}개 구문)", replica.getKey(), statements.size());
+                }
+                failed = false;
+                ready = true;
+            } catch (RuntimeException e) {
+                markFailed(e);
+            }
+        });
+    }
+
+    private void markFailed(RuntimeException e) {
+        failed = true;
+        log.error("복제본 동기화 실패, 복구 전까지 읽기를 주 DB로 보냅니다: {}", e.getMessage());
+    }
+
+    private void finishBatch() {
+        if (pendingBatches.decrementAndGet() == 0) {
+            oldestPendingAt.set(0);
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class RowKey {
+        private final String table;
+        private final Object id;
+    }
+}
@@ -1,14 +1,17 @@
 package com.camping.legacy.domain;
 
+import com.camping.legacy.datasource.ReplicaChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ReplicaChangeListener.class)
 @Table(name = "campsites")
 @Getter
 @Setter
@@ -25,6 +28,15 @@ public class Campsite {
     private String description;
     
     private Integer maxPeople;
+
+    /**
+     * 사이트의 예약 세대 번호
+     * 예약을 생성/이동할 때마다 올려서(OPTIMISTIC_FORCE_INCREMENT) 같은 사이트에 대한
+     * 동시 예약 변경 중 하나만 커밋되도록 한다. 사이트 정보 자체는 거의 바뀌지 않는다.
+     */
+    @Version
+    @ColumnDefault("0")
+    private Long version;
     
     @OneToMany(mappedBy = "campsite", cascade = CascadeType.ALL)
     private List<Reservation> reservations = new ArrayList<>();
@@ -0,0 +1,49 @@
+package com.camping.legacy.domain;
+
+import com.camping.legacy.datasource.ReplicaChangeListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객
+ * 정규화한 전화번호(숫자만)로 식별한다. "010-1234-5678"과 "01012345678"은 같은 고객이다.
+ */
+@Entity
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "customers")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Customer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // StringUtils.normalizePhoneNumber 결과
+    @Column(unique = true, nullable = false, length = 20)
+    private String phoneKey;
+
+    // 표시용 (StringUtils.formatPhoneNumber 결과)
+    private String phoneNumber;
+
+    // 처음 예약할 때의 이름
+    private String name;
+
+    private LocalDateTime createdAt;
+
+    public Customer(String phoneKey, String phoneNumber, String name) {
+        this.phoneKey = phoneKey;
+        this.phoneNumber = phoneNumber;
+        this.name = name;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,52 @@
+package com.camping.legacy.domain;
+
+import com.camping.legacy.datasource.ReplicaChangeListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객별 포인트 잔액 스냅샷
+ * balance는 원장 중 id <= lastTransactionId 까지의 합계다. 그 이후 거래는 조회 시 더한다.
+ * 주기적인 접기(fold)와 포인트 사용이 동시에 갱신하므로 낙관적 잠금(@Version)으로 보호한다.
+ */
+@Entity
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "point_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PointBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화한 전화번호 (숫자만)
+    @Column(unique = true, nullable = false, length = 20)
+    private String customerKey;
+
+    @Column(nullable = false)
+    private Long balance = 0L;
+
+    @Column(nullable = false)
+    private Long lastTransactionId = 0L;
+
+    @Version
+    private Long version;
+
+    private LocalDateTime updatedAt;
+
+    public PointBalance(String customerKey) {
+        this.customerKey = customerKey;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,68 @@
+package com.camping.legacy.domain;
+
+import com.camping.legacy.datasource.ReplicaChangeListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 (추가만 하고 수정/삭제하지 않음)
+ * amount는 부호 있는 값이다: 적립(+), 적립 취소(-), 사용(-).
+ * 같은 예약에 대한 적립/적립 취소는 dedupeKey 유니크 제약으로 한 번만 기록된다.
+ * 사용은 한 예약으로 여러 번 할 수 있으므로 dedupeKey를 비워 둔다 (NULL은 유니크 제약에서 서로 다른 값).
+ */
+@Entity
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "point_transactions",
+        indexes = {
+                @Index(name = "idx_point_tx_customer", columnList = "customerKey, id"),
+                @Index(name = "idx_point_tx_reservation_type", columnList = "reservationId, type")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_tx_dedupe_key", columnNames = "dedupeKey"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PointTransaction {
+
+    public static final String TYPE_ACCRUAL = "ACCRUAL";
+    public static final String TYPE_REVERSAL = "REVERSAL";
+    public static final String TYPE_REDEMPTION = "REDEMPTION";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화한 전화번호 (숫자만)
+    @Column(nullable = false, length = 20)
+    private String customerKey;
+
+    @Column(nullable = false, length = 10)
+    private String type;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    private Long reservationId;
+
+    // 적립/적립 취소: "유형:예약 id", 사용: null
+    @Column(length = 40)
+    private String dedupeKey;
+
+    private LocalDateTime createdAt;
+
+    public PointTransaction(String customerKey, String type, Integer amount, Long reservationId) {
+        this.customerKey = customerKey;
+        this.type = type;
+        this.amount = amount;
+        this.reservationId = reservationId;
+        this.dedupeKey = TYPE_REDEMPTION.equals(type) ? null : type + ":" + reservationId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -1,22 +1,32 @@
 package com.camping.legacy.domain;
 
+import com.camping.legacy.datasource.ReplicaChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservation_customer", columnList = "customer_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class Reservation {
     
+    /**
+     * IDENTITY는 INSERT마다 즉시 실행되어 JDBC 배치가 불가능하므로
+     * 시퀀스를 50개 단위로 미리 할당(pooled)받는다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -35,6 +45,11 @@ public class Reservation {
     private Campsite campsite;
     
     private String phoneNumber;
+
+    // 정규화한 전화번호로 식별한 고객 (전화번호 없이 가져온 예약은 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    private Customer customer;
     
     private String status;
     
@@ -42,6 +57,14 @@ public class Reservation {
     private String confirmationCode;
     
     private LocalDateTime createdAt;
+
+    /**
+     * 낙관적 잠금 버전 (동시 수정 감지)
+     * data.sql 등 직접 INSERT한 행도 0부터 시작하도록 컬럼 기본값을 둔다.
+     */
+    @Version
+    @ColumnDefault("0")
+    private Long version;
     
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,79 @@
+package com.camping.legacy.domain;
+
+import com.camping.legacy.datasource.ReplicaChangeListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 예약 (종료 후 일정 기간이 지난 예약)
+ * reservations 테이블과 같은 컬럼 구조이며 ReservationArchiveService가 INSERT ... SELECT로 옮긴다.
+ * id는 원래 예약 id를 그대로 사용한다.
+ */
+@Entity
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "reservations_archive", indexes = {
+        @Index(name = "idx_archive_site_start", columnList = "campsite_id, startDate"),
+        @Index(name = "idx_archive_start", columnList = "startDate")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String customerName;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    private LocalDate reservationDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "campsite_id", nullable = false)
+    private Campsite campsite;
+
+    private String phoneNumber;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    private Customer customer;
+
+    private String status;
+
+    @Column(length = 6)
+    private String confirmationCode;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime archivedAt;
+
+    /**
+     * 기존 조회/통계 로직을 그대로 쓰기 위해 (저장하지 않는) Reservation으로 변환
+     */
+    public Reservation toReservation() {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        reservation.setCustomerName(customerName);
+        reservation.setStartDate(startDate);
+        reservation.setEndDate(endDate);
+        reservation.setReservationDate(reservationDate);
+        reservation.setCampsite(campsite);
+        reservation.setPhoneNumber(phoneNumber);
+        reservation.setCustomer(customer);
+        reservation.setStatus(status);
+        reservation.setConfirmationCode(confirmationCode);
+        reservation.setCreatedAt(createdAt);
+        return reservation;
+    }
+}
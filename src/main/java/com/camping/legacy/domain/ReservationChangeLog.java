@@ -0,0 +1,50 @@
+package com.camping.legacy.domain;
+
+import com.camping.legacy.datasource.ReplicaChangeListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 변경 로그 (여러 인스턴스 간 캐시 무효화용)
+ * 예약 변경과 같은 트랜잭션에서 추가되고, 각 노드가 id 순서로 읽어 자기 캐시에 반영한다.
+ */
+@Entity
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "reservation_change_log", indexes = @Index(name = "idx_change_log_created_at", columnList = "createdAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservationChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false, length = 10)
+    private String changeType;
+
+    private Long reservationId;
+
+    private Long siteId;
+
+    private String siteNumber;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,53 @@
+package com.camping.legacy.domain;
+
+import com.camping.legacy.datasource.ReplicaChangeListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사이트 폐쇄 기간 (기상 악화 등, 운영자가 등록)
+ * 폐쇄 기간과 겹치는 예약/수정/홀드는 받지 않는다.
+ */
+@Entity
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "site_closures", indexes = @Index(name = "idx_site_closure_campsite", columnList = "campsite_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class SiteClosure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "campsite_id", nullable = false)
+    private Campsite campsite;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    private String reason;
+
+    private LocalDateTime createdAt;
+
+    public SiteClosure(Campsite campsite, LocalDate startDate, LocalDate endDate, String reason) {
+        this.campsite = campsite;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reason = reason;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
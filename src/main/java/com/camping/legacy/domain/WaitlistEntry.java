@@ -0,0 +1,65 @@
+package com.camping.legacy.domain;
+
+import com.camping.legacy.datasource.ReplicaChangeListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 빈자리 대기 신청
+ * 특정 사이트(siteNumber) 또는 사이트 등급(siteClass: A/B) 중 하나를 지정한다.
+ */
+@Entity
+@EntityListeners(ReplicaChangeListener.class)
+@Table(name = "waitlist_entries", indexes = {
+        @Index(name = "idx_waitlist_status", columnList = "status"),
+        @Index(name = "idx_waitlist_hold_token", columnList = "holdToken")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String customerName;
+
+    @Column(nullable = false)
+    private String phoneNumber;
+
+    private String siteNumber;
+
+    @Column(length = 1)
+    private String siteClass;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    private String status;
+
+    private String offeredSiteNumber;
+
+    private String holdToken;
+
+    private LocalDateTime holdExpiresAt;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.status == null) {
+            this.status = "WAITING";
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 대안 예약 추천
+ * dateShift: 요청 시작일 대비 이동 일수 (0이면 같은 날짜의 다른 사이트)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlternativeResponse {
+
+    private String siteNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int dateShift;
+    private int totalPrice;
+}
@@ -0,0 +1,20 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 가용성 변경 알림 (SSE로 전송)
+ * type: BOOKED / FREED / RESYNC (RESYNC는 해당 사이트를 다시 조회하라는 의미)
+ */
+@Getter
+@AllArgsConstructor
+public class AvailabilityDelta {
+
+    private String type;
+    private String siteNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,21 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사이트 등급(A/B 등)별 평일/주말 점유율 (%)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassOccupancyResponse {
+
+    private String siteClass;
+    private int siteCount;
+    private double weekdayRate;
+    private double weekendRate;
+}
@@ -0,0 +1,16 @@
+package com.camping.legacy.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오류 응답 본문
+ * 불변 객체라 ErrorCode별로 하나씩 만들어 두고 요청마다 재사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ErrorResponse {
+
+    private final String code;
+    private final String message;
+}
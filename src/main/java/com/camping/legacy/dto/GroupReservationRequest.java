@@ -0,0 +1,25 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 단체 예약 요청 (같은 기간에 여러 사이트를 한 번에 예약)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupReservationRequest {
+
+    private String customerName;
+    private String phoneNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<String> siteNumbers;
+}
@@ -0,0 +1,22 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 단체 예약 응답
+ * 모든 사이트 예약이 같은 확인 코드를 공유한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupReservationResponse {
+
+    private String confirmationCode;
+    private List<ReservationResponse> reservations;
+}
@@ -0,0 +1,41 @@
+package com.camping.legacy.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 가져오기 결과
+ * 오류 행은 응답 크기를 위해 앞에서부터 최대 MAX_ERRORS건만 담는다.
+ */
+@Getter
+public class ImportResult {
+
+    private static final int MAX_ERRORS = 100;
+
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private final List<Map<String, Object>> errors = new ArrayList<>();
+
+    public void addTotal(long rows) {
+        totalRows += rows;
+    }
+
+    public void addImported(long rows) {
+        importedRows += rows;
+    }
+
+    public void reject(long lineNumber, String message) {
+        rejectedRows++;
+        if (errors.size() < MAX_ERRORS) {
+            Map<String, Object> error = new LinkedHashMap<>();
+            error.put("line", lineNumber);
+            error.put("message", message);
+            errors.add(error);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 월별 리포트 한 줄 (해당 월에 시작한 예약 기준)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyReportResponse {
+
+    private Integer year;
+    private Integer month;
+    private int reservationCount;
+    private long totalRevenue;
+    private double cancellationRate;
+    private double averageReservationDays;
+}
@@ -0,0 +1,31 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사이트 × 일자 점유 히트맵
+ *
+ * - siteNumbers[i]의 점유 구간은 siteRuns[i] = [시작 오프셋(from = 0), 길이, ...]
+ * - siteRates[i]: 기간 중 사이트 i의 점유율 (%)
+ * - dailyRates[d]: from + d일에 점유된 사이트 비율 (%)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<String> siteNumbers;
+    private List<int[]> siteRuns;
+    private double[] siteRates;
+    private double[] dailyRates;
+    private List<ClassOccupancyResponse> classRates;
+}
@@ -0,0 +1,18 @@
+package com.camping.legacy.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 포인트 사용 요청 (예약 확인 코드로 본인 확인)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PointRedeemRequest {
+
+    private Long reservationId;
+    private String confirmationCode;
+    private Integer amount;
+}
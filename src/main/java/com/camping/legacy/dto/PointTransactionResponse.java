@@ -0,0 +1,27 @@
+package com.camping.legacy.dto;
+
+import com.camping.legacy.domain.PointTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointTransactionResponse {
+
+    private Long id;
+    private String type;
+    private Integer amount;
+    private Long reservationId;
+    private LocalDateTime createdAt;
+
+    public static PointTransactionResponse from(PointTransaction transaction) {
+        return new PointTransactionResponse(transaction.getId(), transaction.getType(), transaction.getAmount(),
+                transaction.getReservationId(), transaction.getCreatedAt());
+    }
+}
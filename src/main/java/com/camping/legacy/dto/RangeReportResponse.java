@@ -0,0 +1,25 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 기간 리포트 (월별 목록 + 전체 합계)
+ * source: snapshot(컬럼 스냅샷) 또는 database(스냅샷 준비 전)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RangeReportResponse {
+
+    private String from;
+    private String to;
+    private String source;
+    private List<MonthlyReportResponse> months;
+    private MonthlyReportResponse total;
+}
@@ -0,0 +1,26 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 대량 가져오기 한 행 (CSV 한 줄 또는 NDJSON 한 줄)
+ * CSV 컬럼 순서: siteNumber,customerName,phoneNumber,startDate,endDate[,status]
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationImportRecord {
+
+    private String siteNumber;
+    private String customerName;
+    private String phoneNumber;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String status;
+}
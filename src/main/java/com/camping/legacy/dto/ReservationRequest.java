@@ -21,4 +21,5 @@ public class ReservationRequest {
     private Integer numberOfPeople;
     private String carNumber;
     private String requests;
+    private String holdToken;
 }
\ No newline at end of file
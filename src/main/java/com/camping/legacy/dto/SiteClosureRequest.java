@@ -0,0 +1,24 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사이트 일괄 폐쇄 요청 (기상 악화 등으로 기간 내 예약을 모두 취소)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SiteClosureRequest {
+
+    private List<String> siteNumbers;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String reason;
+}
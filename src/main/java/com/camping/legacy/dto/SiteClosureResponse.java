@@ -0,0 +1,21 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사이트 일괄 폐쇄 결과
+ */
+@Getter
+@AllArgsConstructor
+public class SiteClosureResponse {
+
+    private List<String> siteNumbers;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int cancelledCount;
+    private List<Long> cancelledReservationIds;
+}
@@ -0,0 +1,19 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitingTicketResponse {
+    private String ticketId;
+    private String siteNumber;
+    private String status;
+    private Long position;
+    private ReservationResponse reservation;
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.camping.legacy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequest {
+
+    private String customerName;
+    private String phoneNumber;
+    private String siteNumber;
+    private String siteClass;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
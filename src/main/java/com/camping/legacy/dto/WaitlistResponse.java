@@ -0,0 +1,42 @@
+package com.camping.legacy.dto;
+
+import com.camping.legacy.domain.WaitlistEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistResponse {
+    private Long id;
+    private String customerName;
+    private String siteNumber;
+    private String siteClass;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String status;
+    private String offeredSiteNumber;
+    private String holdToken;
+    private LocalDateTime holdExpiresAt;
+
+    public static WaitlistResponse from(WaitlistEntry entry) {
+        return WaitlistResponse.builder()
+                .id(entry.getId())
+                .customerName(entry.getCustomerName())
+                .siteNumber(entry.getSiteNumber())
+                .siteClass(entry.getSiteClass())
+                .startDate(entry.getStartDate())
+                .endDate(entry.getEndDate())
+                .status(entry.getStatus())
+                .offeredSiteNumber(entry.getOfferedSiteNumber())
+                .holdToken(entry.getHoldToken())
+                .holdExpiresAt(entry.getHoldExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.camping.legacy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 홀드가 사용되지 않고 TTL로 만료되었음을 알리는 이벤트 (타이밍 휠 스레드에서 발행, 트랜잭션 없음)
+ * 대기자에게 제안한 홀드가 만료되면 다음 대기자에게 다시 제안하는 데 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class HoldExpiredEvent {
+
+    private final String holdToken;
+    private final String siteNumber;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
@@ -0,0 +1,32 @@
+package com.camping.legacy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 변경으로 사이트 가용성이 바뀌었음을 알리는 이벤트
+ *
+ * 예약 트랜잭션 안에서 발행되며, 구독자는 보통 커밋 이후(@TransactionalEventListener)에 처리한다.
+ * 예약 수정은 기존 기간의 FREED와 새 기간의 BOOKED 두 건으로 발행된다.
+ * 사이트 일괄 폐쇄는 사이트마다 CLOSED 한 건으로 발행된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReservationChangedEvent {
+
+    public enum ChangeType {
+        BOOKED, FREED,
+        // 운영자가 사이트를 닫아 기간 내 예약을 일괄 취소함 (사이트 단위, reservationId 없음)
+        // 빈 자리가 생긴 것이 아니므로 대기자 매칭 대상이 아니다
+        CLOSED
+    }
+
+    private final ChangeType changeType;
+    private final Long reservationId;
+    private final Long siteId;
+    private final String siteNumber;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+}
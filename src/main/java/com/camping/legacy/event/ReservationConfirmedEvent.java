@@ -0,0 +1,15 @@
+package com.camping.legacy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약이 확정(CONFIRMED)되었음을 알리는 이벤트 (즉시 확정, 단체 예약, 결제 승인)
+ * 포인트 적립처럼 확정된 예약에만 해당하는 후처리를 커밋 이후에 붙이기 위해 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReservationConfirmedEvent {
+
+    private final Long reservationId;
+}
@@ -0,0 +1,18 @@
+package com.camping.legacy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사이트 일괄 폐쇄로 취소된 예약 목록
+ * 취소 알림, 포인트 적립 취소처럼 예약별 후처리를 커밋 이후 한 묶음으로 처리하기 위해 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SitesClosedEvent {
+
+    private final List<Long> reservationIds;
+    private final String reason;
+}
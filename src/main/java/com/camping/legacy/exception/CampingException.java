@@ -0,0 +1,31 @@
+package com.camping.legacy.exception;
+
+import lombok.Getter;
+
+/**
+ * 예상된 업무 거절(입력 오류, 대상 없음, 충돌 등)을 나타내는 예외
+ *
+ * 원인 추적이 필요 없는 정상 흐름이므로 스택 트레이스를 채우지 않는다 (writableStackTrace = false).
+ * 잘못된 요청이 몰릴 때 예외 생성 비용의 대부분이 스택 수집이기 때문이다.
+ */
+@Getter
+public class CampingException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public CampingException(ErrorCode errorCode) {
+        this(errorCode, errorCode.getMessage());
+    }
+
+    /**
+     * 기본 메시지 대신 상세 메시지를 쓸 때 (응답 본문을 새로 만든다)
+     */
+    public CampingException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public boolean hasDefaultMessage() {
+        return errorCode.getMessage().equals(getMessage());
+    }
+}
@@ -0,0 +1,59 @@
+package com.camping.legacy.exception;
+
+import com.camping.legacy.dto.ErrorResponse;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * API 업무 예외를 HTTP 응답으로 바꾼다
+ * 컨트롤러마다 try/catch로 HashMap을 만들던 것을 대신한다.
+ */
+@RestControllerAdvice(annotations = RestController.class)
+public class CampingExceptionHandler {
+
+    /**
+     * 충돌한 사이트 목록을 함께 돌려준다 (단체 예약)
+     */
+    @ExceptionHandler(ReservationConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(ReservationConflictException e) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", e.getErrorCode().name());
+        body.put("message", e.getMessage());
+        body.put("conflictedSites", e.getConflictedSites());
+        return ResponseEntity.status(e.getErrorCode().getStatus()).body(body);
+    }
+
+    @ExceptionHandler(CampingException.class)
+    public ResponseEntity<ErrorResponse> handle(CampingException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        ErrorResponse body = e.hasDefaultMessage()
+                ? errorCode.getBody()
+                : new ErrorResponse(errorCode.name(), e.getMessage());
+        return ResponseEntity.status(errorCode.getStatus()).body(body);
+    }
+
+    /**
+     * 커밋 시점에 낙관적 잠금 버전이 맞지 않은 경우 (재시도 후에도 충돌)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(ObjectOptimisticLockingFailureException e) {
+        ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+        return ResponseEntity.status(errorCode.getStatus()).body(errorCode.getBody());
+    }
+
+    /**
+     * 유니크 제약 위반 (같은 번호로 동시에 처음 예약하는 등 동시 요청이 같은 행을 만들려 한 경우)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrity(DataIntegrityViolationException e) {
+        ErrorCode errorCode = ErrorCode.DATA_CONFLICT;
+        return ResponseEntity.status(errorCode.getStatus()).body(errorCode.getBody());
+    }
+}
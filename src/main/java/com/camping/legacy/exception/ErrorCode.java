@@ -0,0 +1,83 @@
+package com.camping.legacy.exception;
+
+import com.camping.legacy.dto.ErrorResponse;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 업무 오류 코드
+ *
+ * 코드마다 HTTP 상태와 기본 메시지를 가지며, 기본 메시지로 던진 예외는 미리 만들어 둔 응답 본문(body)을 그대로 쓴다.
+ */
+@Getter
+public enum ErrorCode {
+
+    // 입력 검증 (400)
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "요청 값이 올바르지 않습니다."),
+    SITE_NUMBER_REQUIRED(HttpStatus.BAD_REQUEST, "사이트 번호를 입력해주세요."),
+    PERIOD_REQUIRED(HttpStatus.BAD_REQUEST, "예약 기간을 선택해주세요."),
+    END_DATE_BEFORE_START_DATE(HttpStatus.BAD_REQUEST, "종료일이 시작일보다 이전일 수 없습니다."),
+    PAST_DATE(HttpStatus.BAD_REQUEST, "과거 날짜로 예약할 수 없습니다."),
+    PERIOD_TOO_LONG(HttpStatus.BAD_REQUEST, "예약 기간은 최대 30일입니다."),
+    CUSTOMER_NAME_REQUIRED(HttpStatus.BAD_REQUEST, "예약자 이름을 입력해주세요."),
+    CUSTOMER_NAME_TOO_SHORT(HttpStatus.BAD_REQUEST, "예약자 이름은 최소 2자 이상이어야 합니다."),
+    CUSTOMER_NAME_TOO_LONG(HttpStatus.BAD_REQUEST, "예약자 이름은 최대 20자까지 가능합니다."),
+    NAME_REQUIRED(HttpStatus.BAD_REQUEST, "이름을 입력해주세요."),
+    PHONE_NUMBER_REQUIRED(HttpStatus.BAD_REQUEST, "전화번호를 입력해주세요."),
+    INVALID_PHONE_NUMBER(HttpStatus.BAD_REQUEST, "전화번호 형식이 올바르지 않습니다."),
+    PHONE_NUMBER_NOT_NUMERIC(HttpStatus.BAD_REQUEST, "전화번호는 숫자만 입력 가능합니다."),
+    KEYWORD_REQUIRED(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요."),
+    CONFIRMATION_CODE_REQUIRED(HttpStatus.BAD_REQUEST, "확인 코드를 입력해주세요."),
+    RESERVATION_REQUIRED(HttpStatus.BAD_REQUEST, "예약 정보가 없습니다."),
+    PAYMENT_METHOD_REQUIRED(HttpStatus.BAD_REQUEST, "결제 수단을 선택해주세요."),
+    UNSUPPORTED_PAYMENT_METHOD(HttpStatus.BAD_REQUEST, "지원하지 않는 결제 수단입니다."),
+    INVALID_POINT_AMOUNT(HttpStatus.BAD_REQUEST, "사용할 포인트는 0보다 커야 합니다."),
+
+    // 인증 필요 (401)
+    ADMIN_AUTH_REQUIRED(HttpStatus.UNAUTHORIZED, "운영자 인증이 필요합니다."),
+
+    // 결제 거절 (402)
+    PAYMENT_DECLINED(HttpStatus.PAYMENT_REQUIRED, "카드 결제가 실패했습니다."),
+
+    // 본인 확인 실패 (403)
+    CONFIRMATION_CODE_MISMATCH(HttpStatus.FORBIDDEN, "확인 코드가 일치하지 않습니다."),
+    PHONE_NUMBER_MISMATCH(HttpStatus.FORBIDDEN, "전화번호가 일치하지 않습니다."),
+
+    // 대상 없음 (404)
+    CAMPSITE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 캠핑장입니다."),
+    SITE_NOT_FOUND(HttpStatus.NOT_FOUND, "사이트를 찾을 수 없습니다."),
+    RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다."),
+    WAITLIST_ENTRY_NOT_FOUND(HttpStatus.NOT_FOUND, "대기 신청을 찾을 수 없습니다."),
+    WAITING_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "대기 티켓을 찾을 수 없습니다."),
+
+    // 충돌 (409)
+    RESERVATION_CONFLICT(HttpStatus.CONFLICT, "해당 기간에 이미 예약이 존재합니다."),
+    SITE_ON_HOLD(HttpStatus.CONFLICT, "다른 고객이 예약을 진행 중인 사이트입니다."),
+    SITE_CLOSED(HttpStatus.CONFLICT, "해당 기간에는 운영하지 않는 사이트입니다."),
+    RESERVATION_NOT_ACTIVE(HttpStatus.CONFLICT, "이미 취소되었거나 결제에 실패한 예약입니다."),
+    INSUFFICIENT_POINTS(HttpStatus.CONFLICT, "포인트 잔액이 부족합니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청과 동시에 변경되었습니다. 다시 시도해주세요."),
+    POINT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "포인트 처리 요청이 몰리고 있습니다. 잠시 후 다시 시도해주세요."),
+    DATA_CONFLICT(HttpStatus.CONFLICT, "다른 요청과 겹쳐 저장하지 못했습니다. 다시 시도해주세요."),
+
+    // 멱등성 키 재사용 (422)
+    IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+
+    // 요청 제한 (429)
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // 과부하/비활성 기능 (503)
+    FEATURE_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "현재 구성에서는 사용할 수 없는 기능입니다."),
+    WAITING_ROOM_FULL(HttpStatus.SERVICE_UNAVAILABLE, "대기 인원이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_SUBSCRIBERS(HttpStatus.SERVICE_UNAVAILABLE, "실시간 알림 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+    private final ErrorResponse body;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.body = new ErrorResponse(name(), message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.camping.legacy.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 예약 기간 중복 예외
+ * 단체 예약처럼 여러 사이트를 한 번에 처리할 때 어떤 사이트가 충돌했는지 함께 전달한다.
+ */
+@Getter
+public class ReservationConflictException extends CampingException {
+
+    private final List<String> conflictedSites;
+
+    public ReservationConflictException(ErrorCode errorCode, List<String> conflictedSites) {
+        super(errorCode);
+        this.conflictedSites = conflictedSites;
+    }
+
+    public ReservationConflictException(String message, List<String> conflictedSites) {
+        super(ErrorCode.RESERVATION_CONFLICT, message);
+        this.conflictedSites = conflictedSites;
+    }
+}
@@ -0,0 +1,59 @@
+package com.camping.legacy.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청마다 실행된 SQL 수를 X-Query-Count 헤더로 노출한다 (개발 환경 전용)
+ *
+ * 응답 본문이 먼저 커밋되면 헤더를 붙일 수 없으므로 본문을 버퍼링한 뒤
+ * 헤더를 설정하고 내보낸다. 경고 임계치를 넘는 요청은 N+1 의심으로 로그를 남긴다.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Query-Count";
+
+    private final int warnThreshold;
+
+    public QueryCountFilter(int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    /**
+     * SSE 스트림은 본문을 버퍼링하면 전송되지 않으므로 제외한다
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return request.getRequestURI().endsWith("/stream")
+                || (accept != null && accept.contains("text/event-stream"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        QueryCounter.reset();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            int count = QueryCounter.count();
+            QueryCounter.clear();
+
+            if (count > warnThreshold) {
+                log.warn("N+1 의심 요청: {} {} - SQL {}건 실행", request.getMethod(), request.getRequestURI(), count);
+            }
+
+            wrapper.setHeader(HEADER_NAME, String.valueOf(count));
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
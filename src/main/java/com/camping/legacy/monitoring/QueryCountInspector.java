@@ -0,0 +1,16 @@
+package com.camping.legacy.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL을 가로채 요청 단위로 카운트한다.
+ * SQL 자체는 변경하지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,43 @@
+package com.camping.legacy.monitoring;
+
+/**
+ * 요청(스레드) 단위 SQL 실행 횟수 카운터
+ *
+ * - QueryCountInspector가 Hibernate가 준비하는 모든 SQL마다 increment()를 호출한다
+ * - QueryCountFilter가 HTTP 요청 시작 시 reset(), 종료 시 clear()를 호출한다
+ * - 테스트에서는 reset() 후 대상 로직을 실행하고 assertQueryCount(n)으로 쿼리 예산을 검증한다
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private QueryCounter() {
+    }
+
+    public static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+
+    /**
+     * 현재 스레드에서 실행된 SQL 수가 예산(maxQueries)을 넘으면 실패한다.
+     * N+1 쿼리가 다시 생기면 빌드가 깨지도록 엔드포인트별 예산을 고정하는 용도.
+     */
+    public static void assertQueryCount(int maxQueries) {
+        int executed = count();
+        if (executed > maxQueries) {
+            throw new AssertionError("쿼리 예산 초과: 허용 " + maxQueries + "건, 실행 " + executed + "건");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.camping.legacy.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 예약 핫패스 JFR 이벤트
+ *
+ * createReservation / updateReservation / cancelReservation / getMonthlyCalendar 에서 발행된다.
+ * 상시 녹화(-XX:StartFlightRecording)에 남겨 GC, 락 경합, JDBC 시간과 함께 지연 원인을 분석한다.
+ */
+@Name("com.camping.Reservation")
+@Label("Reservation Operation")
+@Category({"Camping", "Reservation"})
+@Description("예약 생성/수정/취소 및 캘린더 조회")
+@StackTrace(false)
+public class ReservationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Site Number")
+    public String siteNumber;
+
+    @Label("Stay Days")
+    public int stayDays;
+
+    @Label("Validation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long validationTime;
+
+    @Label("Conflict Check Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long conflictCheckTime;
+
+    @Label("Persist Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long persistTime;
+
+    @Label("Conflict")
+    public boolean conflict;
+
+    @Label("Outcome")
+    public String outcome;
+
+    public ReservationEvent(String operation) {
+        this.operation = operation;
+    }
+}
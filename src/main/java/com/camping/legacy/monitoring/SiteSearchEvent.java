@@ -0,0 +1,38 @@
+package com.camping.legacy.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 사이트 검색 JFR 이벤트 (SiteService 검색 메서드)
+ */
+@Name("com.camping.SiteSearch")
+@Label("Site Search")
+@Category({"Camping", "Site"})
+@Description("가용 사이트 조회 및 기간 검색")
+@StackTrace(false)
+public class SiteSearchEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Site Number")
+    public String siteNumber;
+
+    @Label("Stay Days")
+    public int stayDays;
+
+    @Label("Result Count")
+    public int resultCount;
+
+    @Label("Outcome")
+    public String outcome;
+
+    public SiteSearchEvent(String operation) {
+        this.operation = operation;
+    }
+}
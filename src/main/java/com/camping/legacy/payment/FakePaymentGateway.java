@@ -0,0 +1,93 @@
+package com.camping.legacy.payment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 개발용 가짜 결제 게이트웨이
+ * 기존 processReservationWithPayment의 결제 시뮬레이션을 그대로 옮겼다.
+ * - 카드: 50ms 승인 지연, 10% 실패
+ * - 현금/계좌이체/모바일: 즉시 승인
+ * - 환불: 같은 예약은 한 번만 환불하고 재요청에는 최초 환불 결과를 돌려준다
+ */
+@Slf4j
+@Component
+public class FakePaymentGateway implements PaymentGateway {
+
+    private static final int MAX_REMEMBERED_PAYMENTS = 10000;
+
+    // 실제 PG처럼 같은 멱등 키의 재요청에는 최초 승인 결과를 돌려준다
+    private final Map<String, PaymentResult> processed = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PaymentResult> eldest) {
+                    return size() > MAX_REMEMBERED_PAYMENTS;
+                }
+            });
+
+    private final Map<String, PaymentResult> refunded = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PaymentResult> eldest) {
+                    return size() > MAX_REMEMBERED_PAYMENTS;
+                }
+            });
+
+    @Override
+    public PaymentResult pay(PaymentCommand command) {
+        String idempotencyKey = command.getIdempotencyKey();
+        PaymentResult previous = processed.get(idempotencyKey);
+        if (previous != null) {
+            log.info("중복 결제 요청 - 기존 결과 반환: {}", idempotencyKey);
+            return previous;
+        }
+
+        PaymentResult result = approve(command);
+        PaymentResult raced = processed.putIfAbsent(idempotencyKey, result);
+        return raced != null ? raced : result;
+    }
+
+    @Override
+    public PaymentResult refund(PaymentCommand command, String approvalNumber) {
+        String idempotencyKey = command.getIdempotencyKey();
+        PaymentResult refund = PaymentResult.approved("REFUND-" + approvalNumber);
+        PaymentResult previous = refunded.putIfAbsent(idempotencyKey, refund);
+        if (previous != null) {
+            log.info("중복 환불 요청 - 기존 결과 반환: {}", idempotencyKey);
+            return previous;
+        }
+        log.info("[{}] 결제 취소 - 예약 ID={}, 승인번호={}, 금액={}원",
+                command.getPaymentMethod(), command.getReservationId(), approvalNumber, command.getAmount());
+        return refund;
+    }
+
+    private PaymentResult approve(PaymentCommand command) {
+        String paymentMethod = command.getPaymentMethod();
+
+        if (paymentMethod.equals("CARD")) {
+            log.info("[카드 결제] 카드사 승인 요청 중... 예약 ID={}", command.getReservationId());
+            try {
+                Thread.sleep(50); // 네트워크 지연 시뮬레이션
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return PaymentResult.declined("결제 승인이 중단되었습니다.");
+            }
+
+            if (ThreadLocalRandom.current().nextInt(10) < 9) {
+                String approvalNumber = "CARD" + System.currentTimeMillis();
+                log.info("[카드 결제] 승인 완료 - 승인번호: {}", approvalNumber);
+                return PaymentResult.approved(approvalNumber);
+            }
+            log.error("[카드 결제] 승인 실패");
+            return PaymentResult.declined("카드 결제가 실패했습니다.");
+        }
+
+        log.info("[{}] 결제 접수 - 예약 ID={}, 금액={}원", paymentMethod, command.getReservationId(), command.getAmount());
+        return PaymentResult.approved(paymentMethod + System.currentTimeMillis());
+    }
+}
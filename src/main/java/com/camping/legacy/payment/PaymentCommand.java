@@ -0,0 +1,19 @@
+package com.camping.legacy.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PaymentCommand {
+    private Long reservationId;
+    private String paymentMethod;
+    private int amount;
+
+    /**
+     * 게이트웨이 중복 승인 방지 키 (같은 예약의 재시도는 같은 키를 사용한다)
+     */
+    public String getIdempotencyKey() {
+        return "reservation-" + reservationId;
+    }
+}
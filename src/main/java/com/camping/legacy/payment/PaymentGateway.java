@@ -0,0 +1,19 @@
+package com.camping.legacy.payment;
+
+/**
+ * 결제 게이트웨이 추상화
+ *
+ * 실제 PG 연동 구현체로 교체할 수 있도록 인터페이스로 분리한다.
+ * 구현체는 예약 트랜잭션 밖(비동기 스레드)에서 호출되므로 DB 커넥션을 점유하지 않는다.
+ */
+public interface PaymentGateway {
+
+    PaymentResult pay(PaymentCommand command);
+
+    /**
+     * 승인된 결제를 취소(환불)한다.
+     * 승인 결과가 도착했지만 예약에 반영할 수 없을 때(이미 취소/보상된 예약) 호출되며,
+     * 같은 승인 건의 재요청은 한 번만 환불되어야 한다.
+     */
+    PaymentResult refund(PaymentCommand command, String approvalNumber);
+}
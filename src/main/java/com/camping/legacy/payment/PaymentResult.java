@@ -0,0 +1,20 @@
+package com.camping.legacy.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PaymentResult {
+    private boolean success;
+    private String approvalNumber;
+    private String message;
+
+    public static PaymentResult approved(String approvalNumber) {
+        return new PaymentResult(true, approvalNumber, "결제가 승인되었습니다.");
+    }
+
+    public static PaymentResult declined(String message) {
+        return new PaymentResult(false, null, message);
+    }
+}
@@ -1,13 +1,45 @@
 package com.camping.legacy.repository;
 
 import com.camping.legacy.domain.Campsite;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CampsiteRepository extends JpaRepository<Campsite, Long> {
     
     Optional<Campsite> findBySiteNumber(String siteNumber);
-}
\ No newline at end of file
+
+    /**
+     * 예약을 넣을 사이트를 쓰기 잠금으로 조회 (예약 생성)
+     * 같은 사이트의 생성끼리는 잠금 대기로 직렬화되어 서로 다른 기간이면 모두 성공한다.
+     * 버전도 함께 올려 같은 사이트를 낙관적으로 수정 중인 예약이 커밋되지 못하게 한다 (수정은 재시도).
+     */
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT c FROM Campsite c WHERE c.id = :id")
+    Optional<Campsite> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 예약을 옮길 사이트 조회 (예약 수정)
+     * 커밋 시 사이트 버전을 올리므로 같은 사이트를 동시에 변경한 트랜잭션은 하나만 성공한다 (잠금 대기 없음).
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT c FROM Campsite c WHERE c.id = :id")
+    Optional<Campsite> findByIdForBooking(@Param("id") Long id);
+
+    /**
+     * 여러 사이트를 쓰기 잠금으로 조회
+     * 항상 id 순서로 잠가서 단체 예약끼리 교착 상태에 빠지지 않도록 한다.
+     * 버전도 함께 올려 같은 사이트를 낙관적으로 변경 중인 예약/수정이 커밋되지 못하게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT c FROM Campsite c WHERE c.siteNumber IN :siteNumbers ORDER BY c.id")
+    List<Campsite> findAllBySiteNumberForUpdate(@Param("siteNumbers") Collection<String> siteNumbers);
+}
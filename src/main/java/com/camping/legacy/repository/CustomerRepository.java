@@ -0,0 +1,17 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.Customer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CustomerRepository extends JpaRepository<Customer, Long> {
+
+    Optional<Customer> findByPhoneKey(String phoneKey);
+
+    List<Customer> findByPhoneKeyIn(Collection<String> phoneKeys);
+}
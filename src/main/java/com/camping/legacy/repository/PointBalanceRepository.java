@@ -0,0 +1,13 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.PointBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PointBalanceRepository extends JpaRepository<PointBalance, Long> {
+
+    Optional<PointBalance> findByCustomerKey(String customerKey);
+}
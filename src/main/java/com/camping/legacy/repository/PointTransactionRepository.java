@@ -0,0 +1,49 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.PointTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
+
+    Optional<PointTransaction> findByReservationIdAndType(Long reservationId, String type);
+
+    List<PointTransaction> findByCustomerKeyOrderByIdDesc(String customerKey, Pageable pageable);
+
+    /**
+     * 스냅샷 이후 거래 합계 (잔액 조회용, (customerKey, id) 인덱스 범위 스캔)
+     */
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t " +
+           "WHERE t.customerKey = :customerKey AND t.id > :afterId")
+    long sumAfter(@Param("customerKey") String customerKey, @Param("afterId") Long afterId);
+
+    /**
+     * 아직 이용이 끝나지 않은(종료일이 오늘 이후) 예약의 적립 합계 (적립 취소된 예약 제외)
+     * 취소되면 회수될 포인트이므로 사용할 수 없다.
+     */
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t, Reservation r " +
+           "WHERE t.customerKey = :customerKey AND t.type = 'ACCRUAL' AND r.id = t.reservationId " +
+           "AND r.endDate >= :today " +
+           "AND NOT EXISTS (SELECT 1 FROM PointTransaction v WHERE v.reservationId = t.reservationId AND v.type = 'REVERSAL')")
+    long sumPendingAccruals(@Param("customerKey") String customerKey, @Param("today") LocalDate today);
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t " +
+           "WHERE t.customerKey = :customerKey AND t.id > :afterId AND t.id <= :uptoId")
+    long sumBetween(@Param("customerKey") String customerKey, @Param("afterId") Long afterId,
+                    @Param("uptoId") Long uptoId);
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM PointTransaction t WHERE t.createdAt < :before")
+    long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Query("SELECT DISTINCT t.customerKey FROM PointTransaction t WHERE t.id > :afterId AND t.id <= :uptoId")
+    List<String> findCustomerKeysBetween(@Param("afterId") Long afterId, @Param("uptoId") Long uptoId);
+}
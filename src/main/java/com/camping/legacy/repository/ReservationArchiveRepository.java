@@ -0,0 +1,33 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.ReservationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchive, Long> {
+
+    @Query("SELECT a FROM ReservationArchive a JOIN FETCH a.campsite " +
+           "WHERE a.startDate <= :endDate AND a.endDate >= :startDate")
+    List<ReservationArchive> findOverlapping(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a FROM ReservationArchive a JOIN FETCH a.campsite " +
+           "WHERE a.campsite.id = :siteId AND a.startDate <= :endDate AND a.endDate >= :startDate")
+    List<ReservationArchive> findOverlappingBySite(@Param("siteId") Long siteId,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT a FROM ReservationArchive a JOIN FETCH a.campsite " +
+           "WHERE a.startDate BETWEEN :startDate AND :endDate")
+    List<ReservationArchive> findStartingBetween(@Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(a) FROM ReservationArchive a WHERE a.status IN ('CANCELLED', 'CANCELLED_SAME_DAY')")
+    long countCancelled();
+}
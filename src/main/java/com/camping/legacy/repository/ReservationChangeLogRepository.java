@@ -0,0 +1,27 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.ReservationChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReservationChangeLogRepository extends JpaRepository<ReservationChangeLog, Long> {
+
+    List<ReservationChangeLog> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM ReservationChangeLog c")
+    long findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReservationChangeLog c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,11 +1,18 @@
 package com.camping.legacy.repository;
 
 import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Customer;
 import com.camping.legacy.domain.Reservation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +29,129 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     
     List<Reservation> findByCustomerName(String customerName);
     
-    List<Reservation> findByCustomerNameAndPhoneNumber(String customerName, String phoneNumber);
+    /**
+     * 내 예약 조회 (customer_id 인덱스)
+     */
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.campsite " +
+           "WHERE r.customer = :customer AND r.customerName = :customerName ORDER BY r.id")
+    List<Reservation> findByCustomerAndCustomerName(@Param("customer") Customer customer,
+                                                    @Param("customerName") String customerName);
+
+    /**
+     * 고객이 연결되지 않은 예약의 전화번호(원문)와 이름
+     */
+    @Query("SELECT r.phoneNumber, MIN(r.customerName) FROM Reservation r " +
+           "WHERE r.customer IS NULL AND r.phoneNumber IS NOT NULL GROUP BY r.phoneNumber")
+    List<Object[]> findUnlinkedPhoneNumbers();
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.customer = :customer " +
+           "WHERE r.customer IS NULL AND r.phoneNumber IN :phoneNumbers")
+    int linkCustomer(@Param("customer") Customer customer, @Param("phoneNumbers") Collection<String> phoneNumbers);
     
     boolean existsByCampsiteAndReservationDate(Campsite campsite, LocalDate date);
-}
\ No newline at end of file
+
+    /**
+     * 취소/결제 실패 예약을 제외한 기간 중복 여부
+     */
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r " +
+           "WHERE r.campsite = :campsite AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+           "AND r.status NOT IN ('CANCELLED', 'CANCELLED_SAME_DAY', 'PAYMENT_FAILED')")
+    boolean existsActiveReservation(@Param("campsite") Campsite campsite,
+                                    @Param("startDate") LocalDate startDate,
+                                    @Param("endDate") LocalDate endDate);
+
+    /**
+     * 예약 수정용 기간 중복 여부 (수정 중인 예약 자신은 제외)
+     */
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r " +
+           "WHERE r.campsite = :campsite AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+           "AND r.id <> :excludedId " +
+           "AND r.status NOT IN ('CANCELLED', 'CANCELLED_SAME_DAY', 'PAYMENT_FAILED')")
+    boolean existsActiveReservationExcluding(@Param("campsite") Campsite campsite,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("excludedId") Long excludedId);
+
+    /**
+     * 여러 사이트의 기간 내 유효 예약을 한 번에 조회 (사이트별 반복 조회 대신)
+     */
+    @Query("SELECT r FROM Reservation r " +
+           "WHERE r.campsite IN :campsites AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+           "AND r.status NOT IN ('CANCELLED', 'CANCELLED_SAME_DAY', 'PAYMENT_FAILED')")
+    List<Reservation> findActiveReservations(@Param("campsites") Collection<Campsite> campsites,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간과 겹치는 예약 (사이트를 함께 조회해 N+1 방지)
+     */
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.campsite " +
+           "WHERE r.startDate <= :endDate AND r.endDate >= :startDate")
+    List<Reservation> findOverlapping(@Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.campsite " +
+           "WHERE r.campsite.id = :siteId AND r.startDate <= :endDate AND r.endDate >= :startDate")
+    List<Reservation> findOverlappingBySite(@Param("siteId") Long siteId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.campsite " +
+           "WHERE r.startDate BETWEEN :startDate AND :endDate")
+    List<Reservation> findStartingBetween(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(r) FROM Reservation r WHERE r.status IN ('CANCELLED', 'CANCELLED_SAME_DAY')")
+    long countCancelled();
+
+    /**
+     * 결과가 반영되지 않고 오래 남은 결제 대기 예약
+     */
+    @Query("SELECT r.id FROM Reservation r WHERE r.status = 'PENDING_PAYMENT' AND r.createdAt < :before ORDER BY r.id")
+    List<Long> findStalePendingPaymentIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    //========================================
+    // 사이트 일괄 폐쇄
+    //========================================
+
+    @Query("SELECT r.id FROM Reservation r " +
+           "WHERE r.campsite IN :campsites AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+           "AND r.status NOT IN ('CANCELLED', 'CANCELLED_SAME_DAY', 'PAYMENT_FAILED') ORDER BY r.id")
+    List<Long> findActiveIds(@Param("campsites") Collection<Campsite> campsites,
+                             @Param("startDate") LocalDate startDate,
+                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 일괄 취소 (cancelReservation과 같은 규칙: 오늘 시작하는 예약은 CANCELLED_SAME_DAY)
+     * VERSIONED로 버전도 올려 동시에 수정 중인 예약은 커밋 시 충돌하게 한다.
+     */
+    @Modifying
+    @Query("UPDATE VERSIONED Reservation r " +
+           "SET r.status = CASE WHEN r.startDate = :today THEN 'CANCELLED_SAME_DAY' ELSE 'CANCELLED' END " +
+           "WHERE r.id IN :ids AND r.status NOT IN ('CANCELLED', 'CANCELLED_SAME_DAY', 'PAYMENT_FAILED')")
+    int cancelAllByIdIn(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.campsite WHERE r.id IN :ids ORDER BY r.id")
+    List<Reservation> findAllWithCampsiteByIdIn(@Param("ids") Collection<Long> ids);
+
+    //========================================
+    // 보관(archive) 이동
+    //========================================
+
+    @Query("SELECT r.id FROM Reservation r WHERE r.endDate < :cutoff ORDER BY r.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDate cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO reservations_archive " +
+                   "(id, customer_name, start_date, end_date, reservation_date, campsite_id, " +
+                   "phone_number, customer_id, status, confirmation_code, created_at, archived_at) " +
+                   "SELECT id, customer_name, start_date, end_date, reservation_date, campsite_id, " +
+                   "phone_number, customer_id, status, confirmation_code, created_at, :archivedAt " +
+                   "FROM reservations WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM Reservation r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,47 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.SiteClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface SiteClosureRepository extends JpaRepository<SiteClosure, Long> {
+
+    /**
+     * 기간 중 하루라도 폐쇄된 사이트인지 확인
+     */
+    @Query("SELECT COUNT(c) > 0 FROM SiteClosure c " +
+           "WHERE c.campsite = :campsite AND c.startDate <= :endDate AND c.endDate >= :startDate")
+    boolean existsOverlapping(@Param("campsite") Campsite campsite,
+                              @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COUNT(c) > 0 FROM SiteClosure c " +
+           "WHERE c.campsite.siteNumber = :siteNumber AND c.startDate <= :endDate AND c.endDate >= :startDate")
+    boolean existsOverlappingBySiteNumber(@Param("siteNumber") String siteNumber,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 중 하루라도 폐쇄된 사이트 id (가용성 조회에서 사이트마다 묻지 않도록 한 번에)
+     */
+    @Query("SELECT DISTINCT c.campsite.id FROM SiteClosure c WHERE c.startDate <= :endDate AND c.endDate >= :startDate")
+    Set<Long> findClosedSiteIds(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 여러 사이트의 폐쇄 기간 (예약 가져오기 묶음 단위 확인용)
+     */
+    @Query("SELECT c FROM SiteClosure c " +
+           "WHERE c.campsite IN :campsites AND c.startDate <= :endDate AND c.endDate >= :startDate")
+    List<SiteClosure> findOverlapping(@Param("campsites") Collection<Campsite> campsites,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,16 @@
+package com.camping.legacy.repository;
+
+import com.camping.legacy.domain.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    List<WaitlistEntry> findByStatus(String status);
+
+    Optional<WaitlistEntry> findByHoldTokenAndStatus(String holdToken, String status);
+}
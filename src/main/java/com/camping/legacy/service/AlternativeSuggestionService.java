@@ -0,0 +1,135 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClosure;
+import com.camping.legacy.dto.AlternativeResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.repository.SiteClosureRepository;
+import com.camping.legacy.util.PriceCalculator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청한 기간이 이미 예약되었을 때 가장 가까운 대안을 추천한다.
+ *
+ * - 같은 사이트의 날짜 이동, 같은 크기(A/B) 다른 사이트의 같은 날짜
+ * - 오늘부터 HORIZON_DAYS 동안의 같은 크기 사이트 예약을 쿼리 한 번으로 읽어
+ *   사이트별 점유 비트맵(BitSet, 1비트 = 1일)을 만들고 그 위에서만 탐색한다
+ * - 정렬: 날짜 이동 거리 → 가격 → 사이트 번호
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AlternativeSuggestionService {
+
+    private static final int HORIZON_DAYS = 365;
+    private static final int DEFAULT_LIMIT = 5;
+    private static final int MAX_LIMIT = 20;
+
+    private final CampsiteRepository campsiteRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationHoldService reservationHoldService;
+    private final SiteClosureRepository siteClosureRepository;
+
+    public List<AlternativeResponse> suggest(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        return suggest(siteNumber, startDate, endDate, DEFAULT_LIMIT);
+    }
+
+    public List<AlternativeResponse> suggest(String siteNumber, LocalDate startDate, LocalDate endDate, int limit) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED, "예약 기간을 올바르게 선택해주세요.");
+        }
+        Campsite requested = campsiteRepository.findBySiteNumber(siteNumber)
+                .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND));
+        int maxResults = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        LocalDate today = LocalDate.now();
+        int stayDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        LocalDate horizonEnd = today.plusDays(HORIZON_DAYS + stayDays);
+
+        // 1. 같은 크기 사이트 + 점유 비트맵 (쿼리 1회)
+        char siteClass = siteNumber.charAt(0);
+        List<Campsite> sameClass = campsiteRepository.findAll().stream()
+                .filter(c -> c.getSiteNumber().charAt(0) == siteClass)
+                .collect(Collectors.toList());
+        Map<Long, BitSet> occupancy = new HashMap<>();
+        for (Campsite campsite : sameClass) {
+            occupancy.put(campsite.getId(), new BitSet(HORIZON_DAYS + stayDays + 1));
+        }
+        for (Reservation r : reservationRepository.findActiveReservations(sameClass, today, horizonEnd)) {
+            int from = (int) Math.max(0, ChronoUnit.DAYS.between(today, r.getStartDate()));
+            int to = (int) Math.min(ChronoUnit.DAYS.between(today, horizonEnd), ChronoUnit.DAYS.between(today, r.getEndDate()));
+            occupancy.get(r.getCampsite().getId()).set(from, to + 1);
+        }
+        // 폐쇄 기간도 점유로 본다
+        for (SiteClosure closure : siteClosureRepository.findOverlapping(sameClass, today, horizonEnd)) {
+            int from = (int) Math.max(0, ChronoUnit.DAYS.between(today, closure.getStartDate()));
+            int to = (int) Math.min(ChronoUnit.DAYS.between(today, horizonEnd), ChronoUnit.DAYS.between(today, closure.getEndDate()));
+            occupancy.get(closure.getCampsite().getId()).set(from, to + 1);
+        }
+
+        List<AlternativeResponse> candidates = new ArrayList<>();
+        int requestedOffset = (int) ChronoUnit.DAYS.between(today, startDate);
+
+        // 2. 같은 날짜, 같은 크기의 다른 사이트
+        if (requestedOffset >= 0 && requestedOffset <= HORIZON_DAYS) {
+            for (Campsite campsite : sameClass) {
+                if (!campsite.getId().equals(requested.getId())
+                        && isFree(occupancy.get(campsite.getId()), requestedOffset, stayDays)
+                        && !reservationHoldService.isHeld(campsite.getSiteNumber(), startDate, endDate)) {
+                    candidates.add(toAlternative(campsite.getSiteNumber(), startDate, stayDays, 0));
+                }
+            }
+        }
+
+        // 3. 같은 사이트, 가까운 날짜부터 앞뒤로 이동 (maxResults개를 찾으면 중단)
+        BitSet own = occupancy.get(requested.getId());
+        int found = 0;
+        for (int shift = 1; shift <= HORIZON_DAYS && found < maxResults; shift++) {
+            for (int offset : new int[]{requestedOffset - shift, requestedOffset + shift}) {
+                if (offset < 0 || offset > HORIZON_DAYS || !isFree(own, offset, stayDays)) {
+                    continue;
+                }
+                LocalDate shiftedStart = today.plusDays(offset);
+                if (reservationHoldService.isHeld(siteNumber, shiftedStart, shiftedStart.plusDays(stayDays - 1))) {
+                    continue;
+                }
+                candidates.add(toAlternative(siteNumber, shiftedStart, stayDays, offset - requestedOffset));
+                found++;
+            }
+        }
+
+        return candidates.stream()
+                .sorted(Comparator.comparingInt((AlternativeResponse a) -> Math.abs(a.getDateShift()))
+                        .thenComparingInt(AlternativeResponse::getTotalPrice)
+                        .thenComparing(AlternativeResponse::getSiteNumber))
+                .limit(maxResults)
+                .collect(Collectors.toList());
+    }
+
+    private boolean isFree(BitSet occupied, int offset, int stayDays) {
+        int next = occupied.nextSetBit(offset);
+        return next == -1 || next >= offset + stayDays;
+    }
+
+    private AlternativeResponse toAlternative(String siteNumber, LocalDate start, int stayDays, int dateShift) {
+        LocalDate end = start.plusDays(stayDays - 1);
+        return new AlternativeResponse(siteNumber, start, end, dateShift,
+                PriceCalculator.calculateTotalPrice(siteNumber, start, end));
+    }
+}
@@ -0,0 +1,193 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.AvailabilityDelta;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사이트 가용성 변경 스트림 (Server-Sent Events)
+ *
+ * - 예약 생성/수정/취소가 커밋되면 구독 조건(사이트, 기간)에 맞는 구독자에게만 변경분을 보낸다
+ * - 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 넘치면 밀린 변경분을 버리고 RESYNC 한 건으로 대체한다
+ *   (느린 클라이언트가 메모리를 계속 잡아두지 않도록)
+ * - 전송은 sseExecutor에서 구독자별로 한 번에 하나씩 처리한다 (요청/이벤트 스레드를 막지 않음)
+ */
+@Slf4j
+@Service
+public class AvailabilityStreamService {
+
+    private static final int BUFFER_SIZE = 64;
+
+    private final Executor sseExecutor;
+    private final int maxSubscribers;
+    private final Duration timeout;
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public AvailabilityStreamService(@Qualifier("sseExecutor") Executor sseExecutor,
+                                     @Value("${camping.sse.max-subscribers:10000}") int maxSubscribers,
+                                     @Value("${camping.sse.timeout-minutes:30}") long timeoutMinutes) {
+        this.sseExecutor = sseExecutor;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+    }
+
+    /**
+     * 구독 (siteNumbers가 비어 있으면 전체 사이트, 기간이 없으면 전체 기간)
+     */
+    public SseEmitter subscribe(Set<String> siteNumbers, LocalDate from, LocalDate to) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new CampingException(ErrorCode.TOO_MANY_SUBSCRIBERS);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(UUID.randomUUID().toString(), emitter, siteNumbers, from, to);
+        subscribers.put(subscriber.id, subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> subscribers.remove(subscriber.id));
+        emitter.onError(e -> subscribers.remove(subscriber.id));
+
+        // 연결 직후 한 번 보내 프록시가 응답 헤더를 바로 내보내도록 한다
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            subscribers.remove(subscriber.id);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        // 묶음 가져오기처럼 개별 예약이 아닌 이벤트는 기간이 정확하지 않으므로 재조회를 요청한다
+        String type = event.getReservationId() == null ? "RESYNC" : event.getChangeType().name();
+        AvailabilityDelta delta = new AvailabilityDelta(type, event.getSiteNumber(), event.getStartDate(), event.getEndDate());
+
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.matches(delta)) {
+                subscriber.offer(delta);
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 끊어진 연결은 전송 실패로만 알 수 있으므로 주기적으로 주석 한 줄을 보낸다
+     */
+    @Scheduled(fixedDelay = 25000)
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return; // 이미 전송 중인 작업이 버퍼를 비운다
+        }
+        try {
+            sseExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.overflowed.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event().name("availability")
+                        .data(new AvailabilityDelta("RESYNC", null, null, null)));
+            }
+            AvailabilityDelta delta;
+            boolean sent = false;
+            while ((delta = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(sequence.incrementAndGet()))
+                        .name("availability")
+                        .data(delta));
+                sent = true;
+            }
+            if (!sent) {
+                subscriber.emitter.send(SseEmitter.event().comment("ping"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber.id);
+            subscriber.emitter.completeWithError(e);
+            log.debug("SSE 구독 종료: {}", subscriber.id);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 전송 중에 들어온 변경분이 있으면 다시 예약한다
+        if (!subscriber.buffer.isEmpty() || subscriber.overflowed.get()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private static final class Subscriber {
+        private final String id;
+        private final SseEmitter emitter;
+        private final Set<String> siteNumbers;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final Queue<AvailabilityDelta> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+
+        private Subscriber(String id, SseEmitter emitter, Set<String> siteNumbers, LocalDate from, LocalDate to) {
+            this.id = id;
+            this.emitter = emitter;
+            this.siteNumbers = siteNumbers;
+            this.from = from;
+            this.to = to;
+        }
+
+        private boolean matches(AvailabilityDelta delta) {
+            if (!siteNumbers.isEmpty() && !siteNumbers.contains(delta.getSiteNumber())) {
+                return false;
+            }
+            if (from != null && delta.getEndDate() != null && delta.getEndDate().isBefore(from)) {
+                return false;
+            }
+            return to == null || delta.getStartDate() == null || !delta.getStartDate().isAfter(to);
+        }
+
+        private void offer(AvailabilityDelta delta) {
+            if (!buffer.offer(delta)) {
+                // 버퍼가 가득 찼다: 밀린 변경분은 의미가 없으므로 비우고 재조회를 요청한다
+                buffer.clear();
+                overflowed.set(true);
+            }
+        }
+    }
+}
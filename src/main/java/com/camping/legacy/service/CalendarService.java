@@ -3,6 +3,8 @@ package com.camping.legacy.service;
 import com.camping.legacy.domain.Campsite;
 import com.camping.legacy.domain.Reservation;
 import com.camping.legacy.dto.CalendarResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
 import com.camping.legacy.repository.CampsiteRepository;
 import com.camping.legacy.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
@@ -45,7 +47,7 @@ public class CalendarService {
     @Deprecated
     public CalendarResponse getMonthlyCalendar(Integer year, Integer month, Long siteId) {
         Campsite campsite = campsiteRepository.findById(siteId)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.SITE_NOT_FOUND));
         
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
@@ -53,18 +55,22 @@ public class CalendarService {
         
         // startDate와 endDate를 사용하는 새로운 예약 시스템에 맞게 수정
         List<Reservation> allReservations = reservationRepository.findAll();
-        Map<LocalDate, Reservation> reservationMap = new HashMap<>();
+        long monthStart = startDate.toEpochDay();
+        long monthEnd = endDate.toEpochDay();
+        Reservation[] reservationByDay = new Reservation[yearMonth.lengthOfMonth()];
+        int reservedDays = 0;
         
         for (Reservation reservation : allReservations) {
             if (reservation.getCampsite().getId().equals(siteId) && 
                 reservation.getStartDate() != null && reservation.getEndDate() != null) {
-                // 예약 기간 내의 모든 날짜에 대해 예약 정보 추가
-                LocalDate current = reservation.getStartDate();
-                while (!current.isAfter(reservation.getEndDate()) && !current.isAfter(endDate)) {
-                    if (!current.isBefore(startDate)) {
-                        reservationMap.put(current, reservation);
+                // 예약 기간과 해당 월이 겹치는 날짜에 예약 정보 추가
+                long from = Math.max(monthStart, reservation.getStartDate().toEpochDay());
+                long to = Math.min(monthEnd, reservation.getEndDate().toEpochDay());
+                for (long day = from; day <= to; day++) {
+                    if (reservationByDay[(int) (day - monthStart)] == null) {
+                        reservedDays++;
                     }
-                    current = current.plusDays(1);
+                    reservationByDay[(int) (day - monthStart)] = reservation;
                 }
             }
         }
@@ -72,7 +78,7 @@ public class CalendarService {
         List<CalendarResponse.DayStatus> days = new ArrayList<>();
         for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
             LocalDate date = yearMonth.atDay(day);
-            Reservation reservation = reservationMap.get(date);
+            Reservation reservation = reservationByDay[day - 1];
             
             days.add(CalendarResponse.DayStatus.builder()
                     .date(date)
@@ -84,8 +90,8 @@ public class CalendarService {
         
         Map<String, Integer> summary = new HashMap<>();
         summary.put("totalDays", yearMonth.lengthOfMonth());
-        summary.put("reservedDays", reservationMap.size());
-        summary.put("availableDays", yearMonth.lengthOfMonth() - reservationMap.size());
+        summary.put("reservedDays", reservedDays);
+        summary.put("availableDays", yearMonth.lengthOfMonth() - reservedDays);
         
         return CalendarResponse.builder()
                 .year(year)
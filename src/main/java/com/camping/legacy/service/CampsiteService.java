@@ -1,6 +1,8 @@
 package com.camping.legacy.service;
 
 import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
 import com.camping.legacy.repository.CampsiteRepository;
 import com.camping.legacy.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,12 +26,12 @@ public class CampsiteService {
     
     public Campsite getCampsiteById(Long id) {
         return campsiteRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("캠핑장을 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND, "캠핑장을 찾을 수 없습니다."));
     }
     
     public Campsite getCampsiteBySiteNumber(String siteNumber) {
         return campsiteRepository.findBySiteNumber(siteNumber)
-                .orElseThrow(() -> new RuntimeException("캠핑장을 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND, "캠핑장을 찾을 수 없습니다."));
     }
     
     public boolean isAvailable(String siteNumber, LocalDate date) {
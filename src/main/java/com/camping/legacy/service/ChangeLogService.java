@@ -0,0 +1,202 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.ReservationChangeLog;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.repository.ReservationChangeLogRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예약 변경 로그 기반 노드 간 캐시 무효화 (외부 브로커 없이 DB만 공유)
+ *
+ * 쓰기: 예약 트랜잭션의 커밋 직전(BEFORE_COMMIT)에 변경 로그를 추가한다. 커밋/롤백이 예약과 함께 된다.
+ * 읽기: 각 노드가 주기적으로 마지막으로 처리한 id 이후만 조회하고,
+ *       다른 노드가 남긴 로그를 ReservationChangedEvent로 다시 발행해 로컬 캐시(ETag 버전, SSE 등)에 반영한다.
+ *
+ * 다시 발행한 이벤트는 트랜잭션 밖에서 발행되므로 fallbackExecution 리스너만 받는다.
+ * (이 클래스의 BEFORE_COMMIT 리스너와 대기자 매칭은 실행되지 않아 로그가 다시 쌓이거나 중복 처리되지 않음)
+ *
+ * id는 발급 순서와 커밋 순서가 다를 수 있다. 진행 중인 트랜잭션 때문에 비어 있는 id는
+ * gap-grace 동안 기다렸다가 건너뛴다 (롤백된 id는 영원히 채워지지 않으므로).
+ * 건너뛴 id는 gap-recheck 동안 따로 기억해 매 주기 다시 조회하고, 늦게 커밋된 로그가 나타나면 그때 반영한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "camping.change-log.enabled", havingValue = "true")
+public class ChangeLogService {
+
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int MAX_SKIPPED_IDS = 10000;
+
+    private final ReservationChangeLogRepository changeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    @Getter
+    private final String nodeId;
+    private final long gapGraceMillis;
+    private final long gapRecheckMillis;
+    private final int retentionHours;
+
+    // 폴러는 스케줄러 스레드 하나에서만 실행된다
+    private long watermark = -1;
+    private final TreeSet<Long> appliedAboveWatermark = new TreeSet<>();
+    private final Map<Long, Long> gapFirstSeen = new HashMap<>();
+    // 건너뛴 id -> 건너뛴 시각 (오래된 순)
+    private final TreeMap<Long, Long> skippedIds = new TreeMap<>();
+    @Getter
+    private final LongAdder skippedCount = new LongAdder();
+    @Getter
+    private final LongAdder lateAppliedCount = new LongAdder();
+
+    public ChangeLogService(ReservationChangeLogRepository changeLogRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${camping.change-log.node-id:}") String nodeId,
+                            @Value("${camping.change-log.gap-grace-ms:10000}") long gapGraceMillis,
+                            @Value("${camping.change-log.gap-recheck-ms:300000}") long gapRecheckMillis,
+                            @Value("${camping.change-log.retention-hours:24}") int retentionHours) {
+        this.changeLogRepository = changeLogRepository;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.gapGraceMillis = gapGraceMillis;
+        this.gapRecheckMillis = gapRecheckMillis;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 예약 변경과 같은 트랜잭션에서 변경 로그 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void append(ReservationChangedEvent event) {
+        ReservationChangeLog entry = new ReservationChangeLog();
+        entry.setNodeId(nodeId);
+        entry.setChangeType(event.getChangeType().name());
+        entry.setReservationId(event.getReservationId());
+        entry.setSiteId(event.getSiteId());
+        entry.setSiteNumber(event.getSiteNumber());
+        entry.setStartDate(event.getStartDate());
+        entry.setEndDate(event.getEndDate());
+        changeLogRepository.save(entry);
+    }
+
+    /**
+     * 시작 시점 이전의 로그는 재생하지 않는다 (로컬 캐시가 비어 있는 상태로 시작하므로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initWatermark() {
+        watermark = changeLogRepository.findMaxId();
+        log.info("변경 로그 구독 시작: node={}, watermark={}", nodeId, watermark);
+    }
+
+    @Scheduled(fixedDelayString = "${camping.change-log.poll-interval-ms:1000}")
+    public void poll() {
+        if (watermark < 0) {
+            return;
+        }
+        List<ReservationChangeLog> entries =
+                changeLogRepository.findByIdGreaterThanOrderByIdAsc(watermark, PageRequest.of(0, POLL_BATCH_SIZE));
+        for (ReservationChangeLog entry : entries) {
+            if (!appliedAboveWatermark.add(entry.getId())) {
+                continue; // 앞쪽 빈 id 때문에 워터마크가 멈춰 있어 다시 조회된 로그
+            }
+            if (!nodeId.equals(entry.getNodeId())) {
+                apply(entry);
+            }
+        }
+        long now = System.currentTimeMillis();
+        advanceWatermark(now);
+        recheckSkipped(now);
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeOldEntries() {
+        int deleted = changeLogRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("오래된 변경 로그 {}건 삭제", deleted);
+        }
+    }
+
+    private void apply(ReservationChangeLog entry) {
+        try {
+            eventPublisher.publishEvent(new ReservationChangedEvent(
+                    ReservationChangedEvent.ChangeType.valueOf(entry.getChangeType()),
+                    entry.getReservationId(), entry.getSiteId(), entry.getSiteNumber(),
+                    entry.getStartDate(), entry.getEndDate()));
+        } catch (RuntimeException e) {
+            log.warn("변경 로그 반영 실패: id={}, {}", entry.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 연속으로 처리된 id까지 워터마크를 올린다. 비어 있는 id는 유예 시간이 지나면 건너뛴다.
+     */
+    private void advanceWatermark(long now) {
+        while (!appliedAboveWatermark.isEmpty()) {
+            long next = watermark + 1;
+            if (appliedAboveWatermark.first() == next) {
+                appliedAboveWatermark.pollFirst();
+                watermark = next;
+                continue;
+            }
+            // next ~ first()-1 구간이 비어 있다 (같은 시점에 발견된 빈 구간이므로 한 번에 건너뜀)
+            long firstSeen = gapFirstSeen.computeIfAbsent(next, id -> now);
+            if (now - firstSeen < gapGraceMillis) {
+                return;
+            }
+            gapFirstSeen.remove(next);
+            long last = appliedAboveWatermark.first() - 1;
+            log.info("변경 로그 빈 id 건너뜀: {} ~ {} (gap-recheck 동안 다시 확인)", next, last);
+            for (long id = next; id <= last; id++) {
+                skip(id, now);
+            }
+            watermark = last;
+        }
+        gapFirstSeen.clear();
+    }
+
+    private void skip(long id, long now) {
+        skippedCount.increment();
+        if (skippedIds.size() >= MAX_SKIPPED_IDS) {
+            // 가장 오래된 id부터 포기한다 (그 사이 커밋됐다면 해당 변경은 이 노드에 반영되지 않음)
+            Map.Entry<Long, Long> oldest = skippedIds.pollFirstEntry();
+            log.warn("변경 로그 빈 id 추적 한도 초과, 더 이상 확인하지 않음: {}", oldest.getKey());
+        }
+        skippedIds.put(id, now);
+    }
+
+    /**
+     * 건너뛴 id가 늦게 커밋됐는지 다시 조회한다. gap-recheck가 지나도 비어 있으면 롤백된 것으로 보고 잊는다.
+     */
+    private void recheckSkipped(long now) {
+        if (skippedIds.isEmpty()) {
+            return;
+        }
+        for (ReservationChangeLog entry : changeLogRepository.findAllById(new ArrayList<>(skippedIds.keySet()))) {
+            skippedIds.remove(entry.getId());
+            lateAppliedCount.increment();
+            log.warn("건너뛴 변경 로그가 늦게 커밋되어 반영: id={}", entry.getId());
+            if (!nodeId.equals(entry.getNodeId())) {
+                apply(entry);
+            }
+        }
+        skippedIds.values().removeIf(skippedAt -> now - skippedAt >= gapRecheckMillis);
+    }
+}
@@ -0,0 +1,181 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.datasource.ReplicaSyncService;
+import com.camping.legacy.domain.Customer;
+import com.camping.legacy.repository.CustomerRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.util.StringUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 고객 조회/생성
+ *
+ * - 고객은 정규화한 전화번호(customers.phone_key, 유니크 인덱스)로 찾는다
+ * - 새 고객은 호출한(예약) 트랜잭션 안에서 H2 MERGE ... WHEN NOT MATCHED로 만든다.
+ *   별도 트랜잭션을 열면 예약 트랜잭션이 커넥션을 쥔 채 커넥션을 하나 더 빌려, 예약이 몰리면 풀이 바닥난다.
+ *   같은 번호로 동시에 만들면 나중 트랜잭션은 앞 트랜잭션이 끝날 때까지 유니크 인덱스에서 기다린다.
+ * - 고객이 연결되지 않은 기존 예약은 시작 시 전화번호별로 한 번에 연결한다
+ */
+@Slf4j
+@Service
+public class CustomerService {
+
+    private final CustomerRepository customerRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ReplicaSyncService> replicaSyncService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CustomerService(CustomerRepository customerRepository,
+                           ReservationRepository reservationRepository,
+                           TransactionTemplate transactionTemplate,
+                           ObjectProvider<ReplicaSyncService> replicaSyncService) {
+        this.customerRepository = customerRepository;
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.replicaSyncService = replicaSyncService;
+    }
+
+    public Optional<Customer> findByPhoneNumber(String phoneNumber) {
+        String phoneKey = StringUtils.normalizePhoneNumber(phoneNumber);
+        if (StringUtils.isEmpty(phoneKey)) {
+            return Optional.empty();
+        }
+        return customerRepository.findByPhoneKey(phoneKey);
+    }
+
+    /**
+     * 전화번호에 해당하는 고객 (없으면 생성), 전화번호가 없으면 null
+     */
+    public Customer resolve(String name, String phoneNumber) {
+        String phoneKey = StringUtils.normalizePhoneNumber(phoneNumber);
+        if (StringUtils.isEmpty(phoneKey)) {
+            return null;
+        }
+        Map<String, String> names = new HashMap<>();
+        names.put(phoneNumber, name);
+        return resolveAll(names).get(phoneKey);
+    }
+
+    /**
+     * 여러 고객을 한 번에 조회/생성 (가져오기, 기존 예약 연결용)
+     * 호출한 트랜잭션 안에서 실행해야 한다.
+     *
+     * @param nameByPhoneNumber 전화번호(원문) → 이름
+     * @return phoneKey → 고객 (호출한 트랜잭션의 영속성 컨텍스트에서 조회한 엔티티)
+     */
+    public Map<String, Customer> resolveAll(Map<String, String> nameByPhoneNumber) {
+        Map<String, Customer> wanted = new LinkedHashMap<>();
+        nameByPhoneNumber.forEach((phoneNumber, name) -> {
+            String phoneKey = StringUtils.normalizePhoneNumber(phoneNumber);
+            if (StringUtils.isNotEmpty(phoneKey)) {
+                wanted.putIfAbsent(phoneKey, new Customer(phoneKey, StringUtils.formatPhoneNumber(phoneKey), name));
+            }
+        });
+        if (wanted.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Customer> found = findAll(wanted.keySet());
+        List<Customer> missing = new ArrayList<>();
+        for (Map.Entry<String, Customer> entry : wanted.entrySet()) {
+            if (!found.containsKey(entry.getKey())) {
+                missing.add(entry.getValue());
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        merge(missing);
+        Map<String, Customer> created = findAll(missing.stream().map(Customer::getPhoneKey).collect(Collectors.toList()));
+        // 네이티브 쿼리는 엔티티 리스너를 거치지 않으므로 복제본 변경을 직접 등록한다
+        replicaSyncService.ifAvailable(service -> created.values().forEach(service::registerChange));
+        found.putAll(created);
+        return found;
+    }
+
+    // 없는 번호만 한 문장으로 추가 (이미 있는 고객의 이름은 처음 예약할 때의 값을 유지)
+    private void merge(List<Customer> customers) {
+        StringBuilder sql = new StringBuilder("MERGE INTO customers c USING (VALUES ");
+        for (int i = 0; i < customers.size(); i++) {
+            int p = i * 3;
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(CAST(?").append(p + 1).append(" AS VARCHAR(20)), CAST(?").append(p + 2)
+                    .append(" AS VARCHAR(255)), CAST(?").append(p + 3).append(" AS VARCHAR(255)))");
+        }
+        sql.append(") s(phone_key, phone_number, name) ON c.phone_key = s.phone_key ")
+                .append("WHEN NOT MATCHED THEN INSERT (phone_key, phone_number, name, created_at) ")
+                .append("VALUES (s.phone_key, s.phone_number, s.name, LOCALTIMESTAMP)");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < customers.size(); i++) {
+            Customer customer = customers.get(i);
+            query.setParameter(i * 3 + 1, customer.getPhoneKey());
+            query.setParameter(i * 3 + 2, customer.getPhoneNumber());
+            query.setParameter(i * 3 + 3, customer.getName());
+        }
+        query.executeUpdate();
+    }
+
+    private Map<String, Customer> findAll(Collection<String> phoneKeys) {
+        Map<String, Customer> customers = new HashMap<>();
+        for (Customer customer : customerRepository.findByPhoneKeyIn(phoneKeys)) {
+            customers.put(customer.getPhoneKey(), customer);
+        }
+        return customers;
+    }
+
+    /**
+     * 고객이 연결되지 않은 예약(이전 스키마의 데이터)을 전화번호별로 연결
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void linkUnassignedReservations() {
+        Integer linked = transactionTemplate.execute(status -> {
+            Map<String, String> nameByPhoneNumber = new LinkedHashMap<>();
+            for (Object[] row : reservationRepository.findUnlinkedPhoneNumbers()) {
+                nameByPhoneNumber.put((String) row[0], (String) row[1]);
+            }
+            if (nameByPhoneNumber.isEmpty()) {
+                return 0;
+            }
+            Map<String, Customer> customers = resolveAll(nameByPhoneNumber);
+            Map<String, List<String>> phoneNumbersByKey = new HashMap<>();
+            for (String phoneNumber : nameByPhoneNumber.keySet()) {
+                String phoneKey = StringUtils.normalizePhoneNumber(phoneNumber);
+                if (customers.containsKey(phoneKey)) {
+                    phoneNumbersByKey.computeIfAbsent(phoneKey, key -> new ArrayList<>()).add(phoneNumber);
+                }
+            }
+            int count = 0;
+            for (Map.Entry<String, List<String>> entry : phoneNumbersByKey.entrySet()) {
+                count += reservationRepository.linkCustomer(customers.get(entry.getKey()), entry.getValue());
+            }
+            return count;
+        });
+        if (linked != null && linked > 0) {
+            // 벌크 UPDATE는 엔티티 리스너를 거치지 않는다
+            replicaSyncService.ifAvailable(service -> service.resyncTable("reservations"));
+            log.info("고객 미연결 예약 {}건 연결 완료", linked);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Customer;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClosure;
+import com.camping.legacy.dto.GroupReservationRequest;
+import com.camping.legacy.dto.GroupReservationResponse;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.event.ReservationConfirmedEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.exception.ReservationConflictException;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.repository.SiteClosureRepository;
+import com.camping.legacy.util.ValidationUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 단체 예약 서비스 (스카우트, 회사 워크숍 등 여러 사이트 동시 예약)
+ *
+ * - 모든 사이트를 하나의 트랜잭션에서 확인/저장한다 (일부만 예약되는 경우 없음)
+ * - 사이트 행을 id 순서로 쓰기 잠금해 단체 예약끼리의 교착 상태를 막는다
+ * - 중복 확인은 사이트 수와 무관하게 쿼리 한 번으로 처리한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GroupReservationService {
+
+    private static final int MAX_GROUP_SITES = 10;
+
+    private final ReservationRepository reservationRepository;
+    private final CampsiteRepository campsiteRepository;
+    private final ReservationHoldService reservationHoldService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CustomerService customerService;
+    private final SiteClosureRepository siteClosureRepository;
+
+    public GroupReservationResponse createGroupReservation(GroupReservationRequest request) {
+        Set<String> siteNumbers = validate(request);
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+
+        // 1. 사이트 잠금 (id 순서)
+        List<Campsite> campsites = campsiteRepository.findAllBySiteNumberForUpdate(siteNumbers);
+        if (campsites.size() != siteNumbers.size()) {
+            Set<String> found = campsites.stream().map(Campsite::getSiteNumber).collect(Collectors.toSet());
+            List<String> missing = siteNumbers.stream().filter(s -> !found.contains(s)).collect(Collectors.toList());
+            throw new CampingException(ErrorCode.CAMPSITE_NOT_FOUND, "존재하지 않는 캠핑장입니다: " + String.join(", ", missing));
+        }
+
+        // 2. 폐쇄된 사이트가 있으면 예약 불가
+        Set<String> closed = new TreeSet<>();
+        for (SiteClosure closure : siteClosureRepository.findOverlapping(campsites, startDate, endDate)) {
+            closed.add(closure.getCampsite().getSiteNumber());
+        }
+        if (!closed.isEmpty()) {
+            throw new ReservationConflictException(ErrorCode.SITE_CLOSED, new ArrayList<>(closed));
+        }
+
+        // 기간 중복 + 다른 고객의 홀드를 한 번에 확인하고 충돌 사이트를 모두 알려준다
+        Set<String> conflicted = new TreeSet<>();
+        for (Reservation existing : reservationRepository.findActiveReservations(campsites, startDate, endDate)) {
+            conflicted.add(existing.getCampsite().getSiteNumber());
+        }
+        for (String siteNumber : siteNumbers) {
+            if (reservationHoldService.isHeldByOthers(siteNumber, startDate, endDate, null)) {
+                conflicted.add(siteNumber);
+            }
+        }
+        if (!conflicted.isEmpty()) {
+            throw new ReservationConflictException("해당 기간에 이미 예약된 사이트가 있습니다.", new ArrayList<>(conflicted));
+        }
+
+        // 3. 일괄 저장 (모든 사이트가 같은 확인 코드를 공유)
+        String confirmationCode = ReservationService.generateConfirmationCode();
+        Customer customer = customerService.resolve(request.getCustomerName(), request.getPhoneNumber());
+        List<Reservation> reservations = new ArrayList<>(campsites.size());
+        for (Campsite campsite : campsites) {
+            Reservation reservation = new Reservation();
+            reservation.setCustomerName(request.getCustomerName());
+            reservation.setPhoneNumber(request.getPhoneNumber());
+            reservation.setCustomer(customer);
+            reservation.setStartDate(startDate);
+            reservation.setEndDate(endDate);
+            reservation.setReservationDate(startDate);
+            reservation.setCampsite(campsite);
+            reservation.setConfirmationCode(confirmationCode);
+            reservations.add(reservation);
+        }
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+
+        List<ReservationResponse> responses = new ArrayList<>(saved.size());
+        for (Reservation reservation : saved) {
+            Campsite campsite = reservation.getCampsite();
+            eventPublisher.publishEvent(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.BOOKED,
+                    reservation.getId(), campsite.getId(), campsite.getSiteNumber(), startDate, endDate));
+            eventPublisher.publishEvent(new ReservationConfirmedEvent(reservation.getId()));
+            responses.add(ReservationResponse.from(reservation));
+        }
+
+        log.info("단체 예약 완료: {} {}개 사이트 {} ~ {}, 확인 코드={}",
+                request.getCustomerName(), saved.size(), startDate, endDate, confirmationCode);
+        return new GroupReservationResponse(confirmationCode, responses);
+    }
+
+    private Set<String> validate(GroupReservationRequest request) {
+        if (request.getSiteNumbers() == null || request.getSiteNumbers().isEmpty()) {
+            throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED, "예약할 사이트를 선택해주세요.");
+        }
+        Set<String> siteNumbers = new LinkedHashSet<>();
+        for (String siteNumber : request.getSiteNumbers()) {
+            if (siteNumber == null || siteNumber.trim().isEmpty()) {
+                throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED);
+            }
+            if (!siteNumbers.add(siteNumber)) {
+                throw new CampingException(ErrorCode.INVALID_REQUEST, "같은 사이트가 중복 선택되었습니다: " + siteNumber);
+            }
+        }
+        if (siteNumbers.size() > MAX_GROUP_SITES) {
+            throw new CampingException(ErrorCode.INVALID_REQUEST, "단체 예약은 최대 " + MAX_GROUP_SITES + "개 사이트까지 가능합니다.");
+        }
+
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (startDate == null || endDate == null) {
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED);
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE);
+        }
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new CampingException(ErrorCode.PAST_DATE);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) > 30) {
+            throw new CampingException(ErrorCode.PERIOD_TOO_LONG);
+        }
+
+        if (!ValidationUtils.isValidCustomerName(request.getCustomerName())) {
+            throw new CampingException(ErrorCode.INVALID_REQUEST, "예약자 이름은 2자 이상 20자 이하로 입력해주세요.");
+        }
+        String phoneNumber = request.getPhoneNumber();
+        if (phoneNumber != null && !phoneNumber.trim().isEmpty() && !ValidationUtils.isValidPhoneNumber(phoneNumber)) {
+            throw new CampingException(ErrorCode.INVALID_PHONE_NUMBER);
+        }
+        return siteNumbers;
+    }
+}
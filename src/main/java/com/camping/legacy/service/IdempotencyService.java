@@ -0,0 +1,195 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 저장소
+ *
+ * - 같은 키의 재시도 요청은 DB를 거치지 않고 최초 응답을 그대로 돌려준다
+ * - 최초 요청이 처리 중이면 동시에 들어온 중복 요청은 같은 실행 결과를 기다린다
+ * - 키는 같은데 요청 본문이 다르면 IDEMPOTENCY_KEY_MISMATCH (422)
+ * - 최대 개수(LRU)와 TTL로 메모리를 제한한다. 처리 중인 항목은 밀어내지 않는다 (대기 중인 중복 요청이 다시 실행되지 않도록)
+ * - 입력 검증/본인 확인/예약 충돌처럼 다시 보내도 같은 결과인 4xx 업무 예외는 저장해 재시도에도 같은 오류를 돌려준다
+ * - 5xx 응답, 동시 변경처럼 재시도하면 결과가 달라질 수 있는 오류, 그 밖의 예외는 저장하지 않아 재시도가 다시 실행되도록 한다
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+    public static final String REPLAYED_HEADER_NAME = "Idempotent-Replayed";
+
+    // 4xx지만 다시 시도하면 성공할 수 있어 저장하지 않는 오류
+    private static final Set<ErrorCode> TRANSIENT_ERRORS = EnumSet.of(
+            ErrorCode.CONCURRENT_MODIFICATION, ErrorCode.POINT_UPDATE_CONFLICT, ErrorCode.DATA_CONFLICT,
+            ErrorCode.SITE_ON_HOLD, ErrorCode.TOO_MANY_REQUESTS);
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Entry> entries;
+
+    public IdempotencyService(@Value("${camping.idempotency.max-entries:10000}") int maxEntries,
+                              @Value("${camping.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * key로 action을 최대 한 번 실행한다.
+     *
+     * @param scope       엔드포인트 구분 (같은 키를 다른 API에 재사용해도 섞이지 않도록)
+     * @param key         클라이언트가 보낸 Idempotency-Key
+     * @param fingerprint 요청 본문 해시 (fingerprint() 참고)
+     */
+    public ResponseEntity<?> execute(String scope, String key, String fingerprint, Supplier<ResponseEntity<?>> action) {
+        String storeKey = scope + ":" + key;
+        long now = System.currentTimeMillis();
+        Entry entry;
+        boolean owner = false;
+
+        synchronized (entries) {
+            entry = entries.get(storeKey);
+            if (entry != null && entry.isExpired(now, ttlMillis)) {
+                entries.remove(storeKey);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry(fingerprint, now);
+                entries.put(storeKey, entry);
+                owner = true;
+                evictCompleted();
+            }
+        }
+
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new CampingException(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+        }
+
+        if (!owner) {
+            log.debug("Idempotency-Key 재사용: {} (최초 응답 반환)", storeKey);
+            return replay(await(entry));
+        }
+
+        try {
+            ResponseEntity<?> response = action.get();
+            if (response.getStatusCode().is5xxServerError()) {
+                forget(storeKey, entry);
+            }
+            entry.response.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            if (!isReplayable(e)) {
+                forget(storeKey, entry);
+            }
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 필드를 이어 붙여 SHA-256 해시를 만든다.
+     */
+    public static String fingerprint(Object... parts) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object part : parts) {
+            canonical.append(part).append('\u001F');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now, ttlMillis)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    // 가장 오래 쓰지 않은 완료 항목부터 최대 개수까지 밀어낸다 (처리 중인 항목만 남으면 잠시 최대 개수를 넘긴다)
+    private void evictCompleted() {
+        int excess = entries.size() - maxEntries;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (excess > 0 && iterator.hasNext()) {
+            if (iterator.next().response.isDone()) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+
+    private boolean isReplayable(RuntimeException e) {
+        if (!(e instanceof CampingException)) {
+            return false;
+        }
+        ErrorCode errorCode = ((CampingException) e).getErrorCode();
+        return errorCode.getStatus().is4xxClientError() && !TRANSIENT_ERRORS.contains(errorCode);
+    }
+
+    private ResponseEntity<?> await(Entry entry) {
+        try {
+            return entry.response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> replay(ResponseEntity<?> original) {
+        return ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .header(REPLAYED_HEADER_NAME, "true")
+                .body(original.getBody());
+    }
+
+    private void forget(String storeKey, Entry entry) {
+        synchronized (entries) {
+            entries.remove(storeKey, entry);
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return response.isDone() && now - createdAt > ttlMillis;
+        }
+    }
+}
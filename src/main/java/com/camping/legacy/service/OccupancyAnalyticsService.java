@@ -0,0 +1,280 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.analytics.MonthOccupancy;
+import com.camping.legacy.analytics.ReservationStatusCode;
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.dto.ClassOccupancyResponse;
+import com.camping.legacy.dto.OccupancyResponse;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.util.EpochDays;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 점유율 분석 (사이트 × 일자 히트맵, 등급별 평일/주말 점유율)
+ *
+ * - 예약을 사이트별 점유 일자 구간(run)으로 바꿔 월 단위 MonthOccupancy로 만든다
+ * - 이미 끝난 달은 결과가 바뀌지 않으므로 불변 객체로 캐시하고, 해당 달 예약이 바뀌면 버린다
+ *   읽는 도중 무효화된 달이 다시 캐시되지 않도록 달마다 세대 번호를 두고, 읽기 전후 세대가 같을 때만 캐시한다
+ * - 원본은 컬럼 스냅샷(준비 전이면 DB)에서 캐시에 없는 달 범위만 한 번 읽는다
+ */
+@Service
+@RequiredArgsConstructor
+public class OccupancyAnalyticsService {
+
+    public static final int MAX_DAYS = 731;
+
+    private final CampsiteRepository campsiteRepository;
+    private final ReservationSnapshotService reservationSnapshotService;
+    private final ReservationArchiveService reservationArchiveService;
+
+    private final Map<YearMonth, MonthOccupancy> finishedMonths = new ConcurrentHashMap<>();
+    // 달별 무효화 세대 (기간 없는 변경은 allGeneration으로 모든 달을 무효화)
+    private final Map<YearMonth, AtomicLong> monthGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong allGeneration = new AtomicLong();
+
+    @Transactional(readOnly = true)
+    public OccupancyResponse getOccupancy(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE, "시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_DAYS) {
+            throw new CampingException(ErrorCode.INVALID_REQUEST, "조회 기간은 최대 " + MAX_DAYS + "일입니다.");
+        }
+
+        List<Campsite> sites = new ArrayList<>(campsiteRepository.findAll());
+        sites.sort(Comparator.comparing(Campsite::getSiteNumber));
+        List<MonthOccupancy> months = loadMonths(YearMonth.from(from), YearMonth.from(to));
+
+        int fromDay = (int) from.toEpochDay();
+        boolean[] weekend = new boolean[days];
+        for (int d = 0; d < days; d++) {
+            weekend[d] = EpochDays.isWeekend(fromDay + d);
+        }
+        long weekendDays = EpochDays.countWeekendDays(fromDay, fromDay + days - 1);
+
+        List<String> siteNumbers = new ArrayList<>(sites.size());
+        List<int[]> siteRuns = new ArrayList<>(sites.size());
+        double[] siteRates = new double[sites.size()];
+        int[] dailyDelta = new int[days + 1];
+        Map<String, long[]> classCounts = new LinkedHashMap<>(); // [사이트 수, 평일 점유, 주말 점유]
+
+        for (int i = 0; i < sites.size(); i++) {
+            Campsite site = sites.get(i);
+            int[] runs = clipRuns(months, site.getId(), fromDay, days);
+            long[] counts = classCounts.computeIfAbsent(siteClass(site.getSiteNumber()), key -> new long[3]);
+            counts[0]++;
+            int occupied = 0;
+            for (int r = 0; r < runs.length; r += 2) {
+                int start = runs[r];
+                int end = start + runs[r + 1];
+                occupied += runs[r + 1];
+                dailyDelta[start]++;
+                dailyDelta[end]--;
+                for (int d = start; d < end; d++) {
+                    counts[weekend[d] ? 2 : 1]++;
+                }
+            }
+            siteNumbers.add(site.getSiteNumber());
+            siteRuns.add(runs);
+            siteRates[i] = percent(occupied, days);
+        }
+
+        double[] dailyRates = new double[days];
+        int running = 0;
+        for (int d = 0; d < days; d++) {
+            running += dailyDelta[d];
+            dailyRates[d] = percent(running, sites.size());
+        }
+
+        long weekdayDays = days - weekendDays;
+        List<ClassOccupancyResponse> classRates = new ArrayList<>();
+        classCounts.forEach((siteClass, counts) -> classRates.add(new ClassOccupancyResponse(siteClass, (int) counts[0],
+                percent(counts[1], counts[0] * weekdayDays), percent(counts[2], counts[0] * weekendDays))));
+
+        return new OccupancyResponse(from, to, siteNumbers, siteRuns, siteRates, dailyRates, classRates);
+    }
+
+    /**
+     * 지난 달 캐시 무효화 (과거 예약 가져오기, 관리자 변경 등)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        // 세대를 먼저 올린 뒤 캐시를 버린다 (loadMonths는 캐시에 넣은 뒤 세대를 다시 확인)
+        if (event.getStartDate() == null || event.getEndDate() == null) {
+            allGeneration.incrementAndGet();
+            finishedMonths.clear();
+            return;
+        }
+        YearMonth last = YearMonth.from(event.getEndDate());
+        for (YearMonth month = YearMonth.from(event.getStartDate()); !month.isAfter(last); month = month.plusMonths(1)) {
+            monthGenerations.computeIfAbsent(month, key -> new AtomicLong()).incrementAndGet();
+            finishedMonths.remove(month);
+        }
+    }
+
+    private long generation(YearMonth month) {
+        AtomicLong generation = monthGenerations.get(month);
+        // 두 세대 모두 증가만 하므로 합이 같으면 그 사이 무효화가 없었다
+        return allGeneration.get() + (generation != null ? generation.get() : 0);
+    }
+
+    private List<MonthOccupancy> loadMonths(YearMonth first, YearMonth last) {
+        YearMonth current = YearMonth.now();
+        Map<YearMonth, MonthOccupancy> built = new HashMap<>();
+        List<YearMonth> missing = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            MonthOccupancy cached = finishedMonths.get(month);
+            if (cached != null) {
+                built.put(month, cached);
+            } else {
+                missing.add(month);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            YearMonth missingFirst = missing.get(0);
+            YearMonth missingLast = missing.get(missing.size() - 1);
+            Map<YearMonth, Long> generations = new HashMap<>();
+            for (YearMonth month : missing) {
+                generations.put(month, generation(month));
+            }
+            boolean cacheable = !reservationSnapshotService.isReady() || !reservationSnapshotService.hasPendingChanges();
+            Map<YearMonth, Map<Long, BitSet>> occupied = new HashMap<>();
+            for (int[] interval : loadIntervals(missingFirst.atDay(1), missingLast.atEndOfMonth())) {
+                markMonths(occupied, interval[0], interval[1], interval[2], missingFirst, missingLast);
+            }
+            for (YearMonth month : missing) {
+                MonthOccupancy occupancy = MonthOccupancy.of(month, occupied.getOrDefault(month, Map.of()));
+                built.put(month, occupancy);
+                if (cacheable && month.isBefore(current) && generations.get(month) == generation(month)) {
+                    finishedMonths.put(month, occupancy);
+                    // 확인과 저장 사이에 무효화가 끼어들었으면 방금 넣은 값을 되돌린다
+                    if (generations.get(month) != generation(month)) {
+                        finishedMonths.remove(month, occupancy);
+                    }
+                }
+            }
+        }
+
+        List<MonthOccupancy> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(built.get(month));
+        }
+        return months;
+    }
+
+    /**
+     * 기간과 겹치는 점유 예약 [사이트 id, 시작 epoch day, 종료 epoch day(포함)]
+     */
+    private List<int[]> loadIntervals(LocalDate startDate, LocalDate endDate) {
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+        if (reservationSnapshotService.isReady()) {
+            return reservationSnapshotService.scan(snapshot -> {
+                List<int[]> intervals = new ArrayList<>();
+                int rows = snapshot.rowCount();
+                for (int row = 0; row < rows; row++) {
+                    if (ReservationStatusCode.isActive(snapshot.status(row))
+                            && snapshot.start(row) <= to && snapshot.end(row) >= from) {
+                        intervals.add(new int[]{snapshot.site(row), snapshot.start(row), snapshot.end(row)});
+                    }
+                }
+                return intervals;
+            });
+        }
+
+        List<int[]> intervals = new ArrayList<>();
+        for (Reservation r : reservationArchiveService.findOverlapping(startDate, endDate)) {
+            if (ReservationStatusCode.isActive(ReservationStatusCode.of(r.getStatus()))) {
+                intervals.add(new int[]{r.getCampsite().getId().intValue(),
+                        (int) r.getStartDate().toEpochDay(), (int) r.getEndDate().toEpochDay()});
+            }
+        }
+        return intervals;
+    }
+
+    private void markMonths(Map<YearMonth, Map<Long, BitSet>> occupied, int siteId, int startDay, int endDay,
+                            YearMonth first, YearMonth last) {
+        YearMonth month = YearMonth.from(LocalDate.ofEpochDay(startDay));
+        if (month.isBefore(first)) {
+            month = first;
+        }
+        YearMonth endMonth = YearMonth.from(LocalDate.ofEpochDay(endDay));
+        if (endMonth.isAfter(last)) {
+            endMonth = last;
+        }
+        for (; !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            int monthStart = (int) month.atDay(1).toEpochDay();
+            int from = Math.max(startDay, monthStart) - monthStart;
+            int to = Math.min(endDay, monthStart + month.lengthOfMonth() - 1) - monthStart;
+            occupied.computeIfAbsent(month, key -> new HashMap<>())
+                    .computeIfAbsent((long) siteId, key -> new BitSet(31))
+                    .set(from, to + 1);
+        }
+    }
+
+    /**
+     * 월별 구간을 조회 범위 기준 오프셋으로 옮기고 잘라낸 뒤, 달 경계에서 이어지는 구간은 합친다
+     */
+    private int[] clipRuns(List<MonthOccupancy> months, Long siteId, int fromDay, int days) {
+        int[] result = new int[16];
+        int size = 0;
+        for (MonthOccupancy month : months) {
+            int offset = (int) month.getMonth().atDay(1).toEpochDay() - fromDay;
+            int[] runs = month.runs(siteId);
+            for (int r = 0; r < runs.length; r += 2) {
+                int start = Math.max(0, runs[r] + offset);
+                int end = Math.min(days, runs[r] + runs[r + 1] + offset);
+                if (start >= end) {
+                    continue;
+                }
+                if (size > 0 && result[size - 2] + result[size - 1] == start) {
+                    result[size - 1] += end - start;
+                    continue;
+                }
+                if (size == result.length) {
+                    int[] grown = new int[size * 2];
+                    System.arraycopy(result, 0, grown, 0, size);
+                    result = grown;
+                }
+                result[size++] = start;
+                result[size++] = end - start;
+            }
+        }
+        int[] compact = new int[size];
+        System.arraycopy(result, 0, compact, 0, size);
+        return compact;
+    }
+
+    private String siteClass(String siteNumber) {
+        return siteNumber.isEmpty() ? "" : siteNumber.substring(0, 1);
+    }
+
+    private double percent(long part, long whole) {
+        if (whole == 0) {
+            return 0.0;
+        }
+        return Math.round(part * 1000.0 / whole) / 10.0;
+    }
+}
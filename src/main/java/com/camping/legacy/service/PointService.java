@@ -0,0 +1,331 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.analytics.ReservationStatusCode;
+import com.camping.legacy.domain.PointBalance;
+import com.camping.legacy.domain.PointTransaction;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.dto.PointBalanceResponse;
+import com.camping.legacy.dto.PointRedeemRequest;
+import com.camping.legacy.dto.PointTransactionResponse;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.event.ReservationConfirmedEvent;
+import com.camping.legacy.event.SitesClosedEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.repository.PointBalanceRepository;
+import com.camping.legacy.repository.PointTransactionRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.util.StringUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 원장 / 잔액
+ *
+ * - 적립: 예약 확정 커밋 이후 별도 스레드·트랜잭션에서 원장에 한 줄 추가만 한다 (예약 트랜잭션이 잔액 행을 잡지 않음)
+ * - 적립 취소: 취소/결제 실패/사이트 폐쇄로 예약이 무효가 되면 적립분을 음수로 추가한다
+ *   잔액보다 많이 회수하지 않는다 (잔액이 음수가 되지 않음)
+ * - 사용: 잔액 행을 OPTIMISTIC_FORCE_INCREMENT로 읽어 동시 사용을 막고, 같은 노드 안에서는 고객별 줄무늬 잠금으로 재시도를 줄인다
+ *   이용이 끝나지 않은 예약의 적립분은 취소되면 회수되므로 사용할 수 없다 (적립 후 사용하고 취소하는 악용 방지)
+ * - 잔액: 주기적으로 원장을 고객별 잔액 행에 접어 두고(fold), 조회 시에는 스냅샷 이후 거래만 더한다
+ *
+ * 고객은 정규화한 전화번호(숫자만)로 구분한다.
+ */
+@Slf4j
+@Service
+public class PointService {
+
+    private static final int STRIPES = 64;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_HISTORY = 100;
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final long foldGraceSeconds;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    // fold는 스케줄러 스레드에서만 실행된다
+    private long foldedUpTo;
+
+    public PointService(PointTransactionRepository pointTransactionRepository,
+                        PointBalanceRepository pointBalanceRepository,
+                        ReservationRepository reservationRepository,
+                        ReservationService reservationService,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${camping.points.fold-grace-seconds:30}") long foldGraceSeconds) {
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.transactionTemplate = transactionTemplate;
+        this.foldGraceSeconds = foldGraceSeconds;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    //========================================
+    // 적립 / 적립 취소
+    //========================================
+
+    @Async("eventExecutor")
+    @TransactionalEventListener
+    public void onReservationConfirmed(ReservationConfirmedEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> accrue(event.getReservationId()));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 적립된 예약: {}", event.getReservationId());
+        }
+    }
+
+    @Async("eventExecutor")
+    @TransactionalEventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getChangeType() != ReservationChangedEvent.ChangeType.FREED || event.getReservationId() == null) {
+            return;
+        }
+        reverseWithRetry(event.getReservationId());
+    }
+
+    /**
+     * 사이트 일괄 폐쇄로 취소된 예약의 적립 취소 (CLOSED 이벤트에는 예약 id가 없음)
+     */
+    @Async("eventExecutor")
+    @TransactionalEventListener
+    public void onSitesClosed(SitesClosedEvent event) {
+        for (Long reservationId : event.getReservationIds()) {
+            reverseWithRetry(reservationId);
+        }
+    }
+
+    private void accrue(Long reservationId) {
+        if (pointTransactionRepository.findByReservationIdAndType(reservationId, PointTransaction.TYPE_ACCRUAL).isPresent()) {
+            return;
+        }
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null || !"CONFIRMED".equals(reservation.getStatus())
+                || StringUtils.isEmpty(reservation.getPhoneNumber())) {
+            return;
+        }
+        int points = reservationService.calculateReservationPoints(reservation);
+        if (points <= 0) {
+            return;
+        }
+        pointTransactionRepository.save(new PointTransaction(StringUtils.normalizePhoneNumber(reservation.getPhoneNumber()),
+                PointTransaction.TYPE_ACCRUAL, points, reservationId));
+        log.info("포인트 적립: 예약 ID={}, {}P", reservationId, points);
+    }
+
+    /**
+     * 적립 취소는 잔액 행을 잡으므로 동시 사용/fold와 충돌하면 다시 시도한다
+     * (중복 적립 취소로 인한 유니크 위반도 재시도하면 reverse가 이미 취소된 것을 보고 끝난다)
+     */
+    private void reverseWithRetry(Long reservationId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> reverse(reservationId));
+                return;
+            } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.warn("포인트 적립 취소 실패: 예약 ID={}", reservationId, e);
+                    return;
+                }
+                log.debug("포인트 적립 취소 충돌, 재시도 {}/{}: 예약 ID={}", attempt, MAX_ATTEMPTS, reservationId);
+            }
+        }
+    }
+
+    private void reverse(Long reservationId) {
+        PointTransaction accrual = pointTransactionRepository
+                .findByReservationIdAndType(reservationId, PointTransaction.TYPE_ACCRUAL).orElse(null);
+        if (accrual == null
+                || pointTransactionRepository.findByReservationIdAndType(reservationId, PointTransaction.TYPE_REVERSAL).isPresent()) {
+            return;
+        }
+        // 예약 수정도 FREED를 발행하므로 실제로 사이트를 반환한 상태일 때만 취소한다
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation != null && ReservationStatusCode.isActive(ReservationStatusCode.of(reservation.getStatus()))) {
+            return;
+        }
+
+        // 이용 완료 후 취소된 예약은 적립분을 이미 썼을 수 있으므로 잔액까지만 회수한다
+        String customerKey = accrual.getCustomerKey();
+        PointBalance balance = lockBalance(customerKey);
+        long available = balance.getBalance() + pointTransactionRepository.sumAfter(customerKey, balance.getLastTransactionId());
+        int amount = (int) Math.min(accrual.getAmount(), Math.max(0L, available));
+        if (amount < accrual.getAmount()) {
+            log.warn("포인트 적립 취소: 예약 ID={} 적립 {}P 중 이미 사용한 {}P는 회수하지 못함",
+                    reservationId, accrual.getAmount(), accrual.getAmount() - amount);
+        }
+        // 0P여도 남겨 두어 다시 취소하지 않도록 한다
+        pointTransactionRepository.save(new PointTransaction(customerKey, PointTransaction.TYPE_REVERSAL, -amount, reservationId));
+        log.info("포인트 적립 취소: 예약 ID={}, {}P", reservationId, amount);
+    }
+
+    //========================================
+    // 조회 / 사용
+    //========================================
+
+    /**
+     * 잔액 = 스냅샷 잔액 + 스냅샷 이후 거래 합계 (이력 전체를 다시 더하지 않음)
+     */
+    public PointBalanceResponse getBalance(String phoneNumber) {
+        if (StringUtils.isEmpty(phoneNumber)) {
+            throw new CampingException(ErrorCode.PHONE_NUMBER_REQUIRED);
+        }
+        String customerKey = StringUtils.normalizePhoneNumber(phoneNumber);
+        return new PointBalanceResponse(phoneNumber, currentBalance(customerKey));
+    }
+
+    public List<PointTransactionResponse> getHistory(String phoneNumber, int limit) {
+        if (StringUtils.isEmpty(phoneNumber)) {
+            throw new CampingException(ErrorCode.PHONE_NUMBER_REQUIRED);
+        }
+        int size = Math.max(1, Math.min(limit, MAX_HISTORY));
+        return pointTransactionRepository
+                .findByCustomerKeyOrderByIdDesc(StringUtils.normalizePhoneNumber(phoneNumber), PageRequest.of(0, size))
+                .stream()
+                .map(PointTransactionResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 포인트 사용
+     * 잔액 행 버전을 강제로 올려 같은 고객의 동시 사용(다른 노드 포함)이 둘 다 커밋되지 않게 한다.
+     */
+    public PointBalanceResponse redeem(PointRedeemRequest request) {
+        if (request.getAmount() == null || request.getAmount() <= 0) {
+            throw new CampingException(ErrorCode.INVALID_POINT_AMOUNT);
+        }
+        if (request.getReservationId() == null) {
+            throw new CampingException(ErrorCode.RESERVATION_REQUIRED);
+        }
+        Reservation reservation = reservationRepository.findById(request.getReservationId())
+                .orElseThrow(() -> new CampingException(ErrorCode.RESERVATION_NOT_FOUND));
+        if (StringUtils.isEmpty(request.getConfirmationCode())) {
+            throw new CampingException(ErrorCode.CONFIRMATION_CODE_REQUIRED);
+        }
+        if (!request.getConfirmationCode().equals(reservation.getConfirmationCode())) {
+            throw new CampingException(ErrorCode.CONFIRMATION_CODE_MISMATCH);
+        }
+        if (StringUtils.isEmpty(reservation.getPhoneNumber())) {
+            throw new CampingException(ErrorCode.PHONE_NUMBER_REQUIRED);
+        }
+        String customerKey = StringUtils.normalizePhoneNumber(reservation.getPhoneNumber());
+
+        ReentrantLock lock = stripes[Math.floorMod(customerKey.hashCode(), STRIPES)];
+        lock.lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    long remaining = transactionTemplate.execute(status ->
+                            redeemInTransaction(customerKey, request.getAmount(), reservation.getId()));
+                    return new PointBalanceResponse(reservation.getPhoneNumber(), remaining);
+                } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+                    if (attempt == MAX_ATTEMPTS) {
+                        throw new CampingException(ErrorCode.POINT_UPDATE_CONFLICT);
+                    }
+                    log.debug("포인트 사용 충돌, 재시도 {}/{}: {}", attempt, MAX_ATTEMPTS, customerKey);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long redeemInTransaction(String customerKey, int amount, Long reservationId) {
+        PointBalance balance = lockBalance(customerKey);
+
+        long total = balance.getBalance() + pointTransactionRepository.sumAfter(customerKey, balance.getLastTransactionId());
+        long available = total - pointTransactionRepository.sumPendingAccruals(customerKey, LocalDate.now());
+        if (available < amount) {
+            if (total >= amount) {
+                throw new CampingException(ErrorCode.INSUFFICIENT_POINTS, "이용이 끝나지 않은 예약의 적립 포인트는 사용할 수 없습니다.");
+            }
+            throw new CampingException(ErrorCode.INSUFFICIENT_POINTS);
+        }
+        pointTransactionRepository.save(new PointTransaction(customerKey, PointTransaction.TYPE_REDEMPTION, -amount, reservationId));
+        return total - amount;
+    }
+
+    // 잔액 행 버전을 강제로 올려 같은 고객의 사용/적립 취소가 동시에 커밋되지 않게 한다
+    private PointBalance lockBalance(String customerKey) {
+        PointBalance balance = pointBalanceRepository.findByCustomerKey(customerKey)
+                .orElseGet(() -> pointBalanceRepository.saveAndFlush(new PointBalance(customerKey)));
+        entityManager.lock(balance, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        return balance;
+    }
+
+    private long currentBalance(String customerKey) {
+        PointBalance balance = pointBalanceRepository.findByCustomerKey(customerKey).orElse(null);
+        long snapshot = balance != null ? balance.getBalance() : 0L;
+        long afterId = balance != null ? balance.getLastTransactionId() : 0L;
+        return snapshot + pointTransactionRepository.sumAfter(customerKey, afterId);
+    }
+
+    //========================================
+    // 잔액 스냅샷 (fold)
+    //========================================
+
+    /**
+     * 원장을 고객별 잔액 행에 접는다
+     * IDENTITY id는 커밋 순서와 다를 수 있어, 아직 커밋 중일 수 있는 최근 grace 구간의 거래는 다음 주기로 미룬다.
+     */
+    @Scheduled(fixedDelayString = "${camping.points.fold-interval-ms:10000}")
+    public void fold() {
+        long uptoId = pointTransactionRepository.findMaxIdCreatedBefore(LocalDateTime.now().minusSeconds(foldGraceSeconds));
+        if (uptoId <= foldedUpTo) {
+            return;
+        }
+        boolean complete = true;
+        List<String> customerKeys = pointTransactionRepository.findCustomerKeysBetween(foldedUpTo, uptoId);
+        for (String customerKey : customerKeys) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> foldCustomer(customerKey, uptoId));
+            } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+                // 동시에 사용/다른 노드 fold가 갱신함 - 다음 주기에 다시 접는다
+                complete = false;
+            }
+        }
+        if (complete) {
+            foldedUpTo = uptoId;
+        }
+        log.debug("포인트 잔액 스냅샷: 고객 {}명, 원장 id {}까지", customerKeys.size(), uptoId);
+    }
+
+    private void foldCustomer(String customerKey, long uptoId) {
+        PointBalance balance = pointBalanceRepository.findByCustomerKey(customerKey)
+                .orElseGet(() -> new PointBalance(customerKey));
+        if (balance.getLastTransactionId() >= uptoId) {
+            return;
+        }
+        long delta = pointTransactionRepository.sumBetween(customerKey, balance.getLastTransactionId(), uptoId);
+        balance.setBalance(balance.getBalance() + delta);
+        balance.setLastTransactionId(uptoId);
+        pointBalanceRepository.save(balance);
+    }
+}
@@ -0,0 +1,127 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.analytics.MonthlyBuckets;
+import com.camping.legacy.analytics.RangeReportTask;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.dto.MonthlyReportResponse;
+import com.camping.legacy.dto.RangeReportResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.util.PriceCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 기간(여러 달) 리포트
+ *
+ * generateMonthlyReport를 달마다 반복 호출하지 않고 한 번의 스캔으로 월별 건수/매출/취소율/평균 숙박일을 구한다.
+ * - 스냅샷이 준비됐으면 컬럼 파일을 fork-join 풀에서 행 구간별로 나눠 훑고 월별 부분 집계를 합친다
+ * - 준비 전이면 범위 전체를 DB에서 한 번만 읽어 같은 방식으로 집계한다
+ */
+@Slf4j
+@Service
+public class RangeReportService {
+
+    public static final int MAX_MONTHS = 120;
+
+    private final ReservationSnapshotService reservationSnapshotService;
+    private final ReservationArchiveService reservationArchiveService;
+    private final ForkJoinPool reportPool;
+
+    public RangeReportService(ReservationSnapshotService reservationSnapshotService,
+                              ReservationArchiveService reservationArchiveService,
+                              @Qualifier("reportPool") ForkJoinPool reportPool) {
+        this.reservationSnapshotService = reservationSnapshotService;
+        this.reservationArchiveService = reservationArchiveService;
+        this.reportPool = reportPool;
+    }
+
+    @Transactional(readOnly = true)
+    public RangeReportResponse generateRangeReport(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE, "시작 월이 종료 월보다 늦을 수 없습니다.");
+        }
+        int months = (int) ChronoUnit.MONTHS.between(from, to) + 1;
+        if (months > MAX_MONTHS) {
+            throw new CampingException(ErrorCode.INVALID_REQUEST, "리포트 기간은 최대 " + MAX_MONTHS + "개월입니다.");
+        }
+
+        long started = System.nanoTime();
+        MonthlyBuckets buckets;
+        String source;
+        if (reservationSnapshotService.isReady()) {
+            buckets = aggregateSnapshot(from, to, months);
+            source = "snapshot";
+        } else {
+            buckets = aggregateDatabase(from, to, months);
+            source = "database";
+        }
+        log.debug("기간 리포트 {} ~ {} ({}개월, {}): {}ms", from, to, months, source,
+                (System.nanoTime() - started) / 1_000_000);
+
+        List<MonthlyReportResponse> rows = new ArrayList<>(months);
+        int totalCount = 0;
+        int totalCancelled = 0;
+        long totalRevenue = 0;
+        long totalStayDays = 0;
+        for (int month = 0; month < months; month++) {
+            YearMonth yearMonth = from.plusMonths(month);
+            rows.add(toResponse(yearMonth.getYear(), yearMonth.getMonthValue(), buckets.reservationCount(month),
+                    buckets.cancelledCount(month), buckets.revenue(month), buckets.stayDays(month)));
+            totalCount += buckets.reservationCount(month);
+            totalCancelled += buckets.cancelledCount(month);
+            totalRevenue += buckets.revenue(month);
+            totalStayDays += buckets.stayDays(month);
+        }
+
+        return new RangeReportResponse(from.toString(), to.toString(), source, rows,
+                toResponse(null, null, totalCount, totalCancelled, totalRevenue, totalStayDays));
+    }
+
+    private MonthlyBuckets aggregateSnapshot(YearMonth from, YearMonth to, int months) {
+        // 시작일(epoch day) → 월 인덱스 표
+        int firstDay = (int) from.atDay(1).toEpochDay();
+        int lastDay = (int) to.atEndOfMonth().toEpochDay();
+        int[] dayToMonth = new int[lastDay - firstDay + 1];
+        for (int month = 0; month < months; month++) {
+            YearMonth yearMonth = from.plusMonths(month);
+            int monthStart = (int) yearMonth.atDay(1).toEpochDay() - firstDay;
+            for (int day = 0; day < yearMonth.lengthOfMonth(); day++) {
+                dayToMonth[monthStart + day] = month;
+            }
+        }
+
+        // 읽기 잠금을 잡은 채로 풀에 넘겨 스캔 도중 파일이 교체되지 않게 한다
+        return reservationSnapshotService.scan(snapshot -> reportPool.invoke(
+                new RangeReportTask(snapshot, firstDay, dayToMonth, months, 0, snapshot.rowCount())));
+    }
+
+    private MonthlyBuckets aggregateDatabase(YearMonth from, YearMonth to, int months) {
+        MonthlyBuckets buckets = new MonthlyBuckets(months);
+        List<Reservation> reservations = reservationArchiveService.findStartingBetween(from.atDay(1), to.atEndOfMonth());
+        for (Reservation r : reservations) {
+            LocalDate start = r.getStartDate();
+            int month = (int) ChronoUnit.MONTHS.between(from, YearMonth.from(start));
+            boolean cancelled = "CANCELLED".equals(r.getStatus()) || "CANCELLED_SAME_DAY".equals(r.getStatus());
+            int price = PriceCalculator.calculateTotalPrice(r.getCampsite().getSiteNumber(), start, r.getEndDate());
+            buckets.add(month, cancelled, price, (int) ChronoUnit.DAYS.between(start, r.getEndDate()));
+        }
+        return buckets;
+    }
+
+    private MonthlyReportResponse toResponse(Integer year, Integer month, int count, int cancelled,
+                                             long revenue, long stayDays) {
+        double cancellationRate = count == 0 ? 0.0 : (double) cancelled / count;
+        double averageDays = count == 0 ? 0.0 : (double) stayDays / count;
+        return new MonthlyReportResponse(year, month, count, revenue, cancellationRate, averageDays);
+    }
+}
@@ -0,0 +1,148 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.datasource.ReplicaSyncService;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.ReservationArchive;
+import com.camping.legacy.repository.ReservationArchiveRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 지난 예약 보관 (reservations → reservations_archive)
+ *
+ * - 종료일이 retention-days 이전인 예약을 배치 단위로 INSERT ... SELECT 후 DELETE (배치마다 트랜잭션 분리)
+ * - 조회 쪽은 요청 기간이 보관 기준일 이전을 포함할 때만 보관 테이블을 함께 읽는다
+ *   (보관 테이블의 모든 예약은 종료일 < 오늘 - retention-days 이므로 그보다 늦게 시작하는 기간과는 겹칠 수 없음)
+ */
+@Slf4j
+@Service
+public class ReservationArchiveService {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ReplicaSyncService> replicaSyncService;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public ReservationArchiveService(ReservationRepository reservationRepository,
+                                     ReservationArchiveRepository reservationArchiveRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     ObjectProvider<ReplicaSyncService> replicaSyncService,
+                                     @Value("${camping.archive.retention-days:90}") int retentionDays,
+                                     @Value("${camping.archive.batch-size:1000}") int batchSize) {
+        this.reservationRepository = reservationRepository;
+        this.reservationArchiveRepository = reservationArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.replicaSyncService = replicaSyncService;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${camping.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        archive();
+    }
+
+    /**
+     * @return 옮긴 예약 수
+     */
+    public int archive() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = reservationRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                reservationRepository.copyToArchive(ids, LocalDateTime.now());
+                reservationRepository.deleteByIdIn(ids);
+                return ids.size();
+            });
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+        }
+
+        if (total > 0) {
+            log.info("예약 보관 완료: 종료일 {} 이전 {}건", cutoff, total);
+            // 벌크 쿼리는 엔티티 리스너를 거치지 않으므로 복제본을 직접 맞춘다
+            replicaSyncService.ifAvailable(service -> {
+                service.resyncTable("reservations");
+                service.resyncTable("reservations_archive");
+            });
+        }
+        return total;
+    }
+
+    /**
+     * 요청 기간이 보관된 예약과 겹칠 수 있는지
+     */
+    public boolean needsArchive(LocalDate startDate) {
+        return startDate.isBefore(LocalDate.now().minusDays(retentionDays));
+    }
+
+    /**
+     * 기간과 겹치는 예약 (필요할 때만 보관 테이블 포함)
+     */
+    public List<Reservation> findOverlapping(LocalDate startDate, LocalDate endDate) {
+        return union(reservationRepository.findOverlapping(startDate, endDate), startDate,
+                () -> reservationArchiveRepository.findOverlapping(startDate, endDate));
+    }
+
+    public List<Reservation> findOverlappingBySite(Long siteId, LocalDate startDate, LocalDate endDate) {
+        return union(reservationRepository.findOverlappingBySite(siteId, startDate, endDate), startDate,
+                () -> reservationArchiveRepository.findOverlappingBySite(siteId, startDate, endDate));
+    }
+
+    /**
+     * 시작일이 기간 안에 있는 예약 (필요할 때만 보관 테이블 포함)
+     */
+    public List<Reservation> findStartingBetween(LocalDate startDate, LocalDate endDate) {
+        return union(reservationRepository.findStartingBetween(startDate, endDate), startDate,
+                () -> reservationArchiveRepository.findStartingBetween(startDate, endDate));
+    }
+
+    /**
+     * 전체 기간 통계용 건수 (보관 테이블 포함)
+     */
+    public long countAll() {
+        return reservationRepository.count() + reservationArchiveRepository.count();
+    }
+
+    public long countCancelled() {
+        return reservationRepository.countCancelled() + reservationArchiveRepository.countCancelled();
+    }
+
+    private List<Reservation> union(List<Reservation> hot, LocalDate startDate,
+                                    Supplier<List<ReservationArchive>> archiveQuery) {
+        if (!needsArchive(startDate)) {
+            return hot;
+        }
+        List<ReservationArchive> archived = archiveQuery.get();
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<Reservation> result = new ArrayList<>(hot.size() + archived.size());
+        for (ReservationArchive archive : archived) {
+            result.add(archive.toReservation());
+        }
+        result.addAll(hot);
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,238 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.dto.HoldResponse;
+import com.camping.legacy.event.HoldExpiredEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.repository.SiteClosureRepository;
+import com.camping.legacy.util.HashedTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 홀드 (결제/정보 입력 중 사이트 임시 선점)
+ *
+ * - 홀드는 메모리에만 존재하며 TTL이 지나면 타이밍 휠이 자동으로 해제한다 (DB 스윕 없음)
+ * - 가용성 조회와 예약 생성 시 다른 고객의 홀드는 예약된 것으로 취급한다
+ * - 예약 확정 시 토큰으로 O(1) 제거한다
+ */
+@Slf4j
+@Service
+public class ReservationHoldService {
+
+    // 예약 최대 기간(30일)과 같다
+    private static final int MAX_HOLD_DAYS = 30;
+
+    private final CampsiteRepository campsiteRepository;
+    private final ReservationRepository reservationRepository;
+    private final SiteClosureRepository siteClosureRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration holdTtl;
+    private final boolean enabled;
+
+    private final Map<String, Hold> holdsByToken = new ConcurrentHashMap<>();
+    private final Map<String, Set<Hold>> holdsBySite = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<Hold> timingWheel;
+
+    public ReservationHoldService(CampsiteRepository campsiteRepository,
+                                  ReservationRepository reservationRepository,
+                                  SiteClosureRepository siteClosureRepository,
+                                  ResourceVersionService resourceVersionService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${camping.hold.ttl-seconds:600}") long ttlSeconds,
+                                  @Value("${camping.hold.enabled:true}") boolean enabled) {
+        this.campsiteRepository = campsiteRepository;
+        this.reservationRepository = reservationRepository;
+        this.siteClosureRepository = siteClosureRepository;
+        this.resourceVersionService = resourceVersionService;
+        this.eventPublisher = eventPublisher;
+        this.holdTtl = Duration.ofSeconds(ttlSeconds);
+        this.enabled = enabled;
+        this.timingWheel = new HashedTimingWheel<>(1000, 1024, System.currentTimeMillis(), this::expire);
+    }
+
+    /**
+     * 사이트/기간 홀드 생성
+     * 홀드는 이 노드의 메모리에만 있으므로 다중 인스턴스(cluster 프로필)에서는 끈다.
+     */
+    public HoldResponse hold(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        if (!enabled) {
+            throw new CampingException(ErrorCode.FEATURE_DISABLED, "다중 인스턴스 구성에서는 사이트 홀드를 지원하지 않습니다.");
+        }
+        if (siteNumber == null || siteNumber.trim().isEmpty()) {
+            throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED);
+        }
+        if (startDate == null || endDate == null) {
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED);
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE);
+        }
+        // 예약할 수 없는 기간은 홀드도 할 수 없다 (예약 생성과 같은 규칙)
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new CampingException(ErrorCode.PAST_DATE);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) > MAX_HOLD_DAYS) {
+            throw new CampingException(ErrorCode.PERIOD_TOO_LONG);
+        }
+
+        Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
+                .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND));
+        if (reservationRepository.existsActiveReservation(campsite, startDate, endDate)) {
+            throw new CampingException(ErrorCode.RESERVATION_CONFLICT);
+        }
+        if (siteClosureRepository.existsOverlapping(campsite, startDate, endDate)) {
+            throw new CampingException(ErrorCode.SITE_CLOSED);
+        }
+
+        long expiresAt = System.currentTimeMillis() + holdTtl.toMillis();
+        Hold hold = new Hold(UUID.randomUUID().toString(), siteNumber, startDate, endDate, expiresAt);
+
+        // 같은 사이트에 대한 홀드 생성은 사이트 키 단위로 직렬화된다
+        holdsBySite.compute(siteNumber, (key, holds) -> {
+            Set<Hold> siteHolds = holds != null ? holds : ConcurrentHashMap.newKeySet();
+            for (Hold existing : siteHolds) {
+                if (existing.overlaps(startDate, endDate)) {
+                    throw new CampingException(ErrorCode.SITE_ON_HOLD);
+                }
+            }
+            siteHolds.add(hold);
+            return siteHolds;
+        });
+        holdsByToken.put(hold.token, hold);
+        hold.timeout = timingWheel.schedule(hold, expiresAt);
+        resourceVersionService.onHoldChanged(startDate, endDate);
+
+        log.debug("홀드 생성: {} {} ~ {} (토큰 {})", siteNumber, startDate, endDate, hold.token);
+        return toResponse(hold);
+    }
+
+    /**
+     * excludeToken 이외의 홀드가 해당 기간과 겹치는지 확인
+     */
+    public boolean isHeldByOthers(String siteNumber, LocalDate startDate, LocalDate endDate, String excludeToken) {
+        Set<Hold> siteHolds = holdsBySite.get(siteNumber);
+        if (siteHolds == null) {
+            return false;
+        }
+        for (Hold hold : siteHolds) {
+            if (!hold.token.equals(excludeToken) && hold.overlaps(startDate, endDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isHeld(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        return isHeldByOthers(siteNumber, startDate, endDate, null);
+    }
+
+    /**
+     * 홀드 해제 (O(1))
+     */
+    public void release(String token) {
+        if (token == null) {
+            return;
+        }
+        Hold hold = holdsByToken.remove(token);
+        if (hold == null) {
+            return;
+        }
+        if (hold.timeout != null) {
+            hold.timeout.cancel();
+        }
+        removeFromSite(hold);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 홀드를 해제한다.
+     * 예약 행이 커밋되기 전에 홀드가 먼저 사라지면 그 사이에 다른 요청이 끼어들 수 있다.
+     */
+    public void releaseAfterCommit(String token) {
+        if (token == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(token);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(token);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void tick() {
+        timingWheel.advance(System.currentTimeMillis());
+    }
+
+    private void expire(Hold hold) {
+        if (holdsByToken.remove(hold.token, hold)) {
+            removeFromSite(hold);
+            log.debug("홀드 만료: {} {} ~ {}", hold.siteNumber, hold.startDate, hold.endDate);
+            eventPublisher.publishEvent(new HoldExpiredEvent(hold.token, hold.siteNumber, hold.startDate, hold.endDate));
+        }
+    }
+
+    private void removeFromSite(Hold hold) {
+        holdsBySite.computeIfPresent(hold.siteNumber, (key, holds) -> {
+            holds.remove(hold);
+            return holds.isEmpty() ? null : holds;
+        });
+        resourceVersionService.onHoldChanged(hold.startDate, hold.endDate);
+    }
+
+    private HoldResponse toResponse(Hold hold) {
+        return HoldResponse.builder()
+                .holdToken(hold.token)
+                .siteNumber(hold.siteNumber)
+                .startDate(hold.startDate)
+                .endDate(hold.endDate)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.expiresAt), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private static final class Hold {
+        private final String token;
+        private final String siteNumber;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final long expiresAt;
+        private volatile HashedTimingWheel.Timeout<Hold> timeout;
+
+        private Hold(String token, String siteNumber, LocalDate startDate, LocalDate endDate, long expiresAt) {
+            this.token = token;
+            this.siteNumber = siteNumber;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean overlaps(LocalDate start, LocalDate end) {
+            return !startDate.isAfter(end) && !endDate.isBefore(start);
+        }
+    }
+}
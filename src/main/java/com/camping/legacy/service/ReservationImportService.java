@@ -0,0 +1,280 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Customer;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClosure;
+import com.camping.legacy.dto.ImportResult;
+import com.camping.legacy.dto.ReservationImportRecord;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.repository.SiteClosureRepository;
+import com.camping.legacy.util.IntervalIndex;
+import com.camping.legacy.util.StringUtils;
+import com.camping.legacy.util.ValidationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 대량 가져오기 (기존 시스템/제휴사 데이터 이관)
+ *
+ * - 입력을 한 줄씩 스트리밍으로 읽어 CHUNK_SIZE 단위로 처리한다 (메모리 사용량 일정)
+ * - 묶음마다 확정 행이 있는 사이트를 id 순서로 잠근 뒤, 사이트별 기존 예약을 한 번의 쿼리로 가져와
+ *   중복, 폐쇄 기간, 다른 고객의 홀드를 메모리에서 확인한다 (가져오는 중에 들어온 일반 예약과 겹치지 않도록)
+ * - 저장은 시퀀스(pooled) ID + JDBC 배치 INSERT, 묶음마다 별도 트랜잭션으로 커밋한다
+ * - 이관 데이터이므로 과거 날짜/30일 제한은 적용하지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final Set<String> IMPORTABLE_STATUSES = Set.of("CONFIRMED", "CANCELLED", "CANCELLED_SAME_DAY");
+
+    private final ReservationRepository reservationRepository;
+    private final CampsiteRepository campsiteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CustomerService customerService;
+    private final ReservationHoldService reservationHoldService;
+    private final SiteClosureRepository siteClosureRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param csv true면 CSV, false면 NDJSON
+     */
+    public ImportResult importReservations(InputStream input, boolean csv) throws IOException {
+        Map<String, Campsite> campsites = campsiteRepository.findAll().stream()
+                .collect(Collectors.toMap(Campsite::getSiteNumber, Function.identity()));
+        ImportResult result = new ImportResult();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (csv && lineNumber == 1 && line.startsWith("siteNumber")) {
+                continue; // 헤더
+            }
+
+            ReservationImportRecord record;
+            try {
+                record = csv ? parseCsv(line) : objectMapper.readValue(line, ReservationImportRecord.class);
+            } catch (Exception e) {
+                result.addTotal(1);
+                result.reject(lineNumber, "형식 오류: " + e.getMessage());
+                continue;
+            }
+
+            chunk.add(new ImportRow(lineNumber, record));
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, campsites, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, campsites, result);
+        }
+
+        log.info("예약 가져오기 완료: 전체 {}건, 성공 {}건, 실패 {}건",
+                result.getTotalRows(), result.getImportedRows(), result.getRejectedRows());
+        return result;
+    }
+
+    private void importChunk(List<ImportRow> rows, Map<String, Campsite> campsites, ImportResult result) {
+        result.addTotal(rows.size());
+
+        // 1. 행 단위 검증
+        List<ImportRow> valid = new ArrayList<>(rows.size());
+        Set<Campsite> sites = new HashSet<>();
+        Set<String> activeSiteNumbers = new HashSet<>();
+        LocalDate minStart = null;
+        LocalDate maxEnd = null;
+        for (ImportRow row : rows) {
+            String error = validate(row.record, campsites);
+            if (error != null) {
+                result.reject(row.lineNumber, error);
+                continue;
+            }
+            valid.add(row);
+            sites.add(campsites.get(row.record.getSiteNumber()));
+            if (isActive(row.record.getStatus())) {
+                activeSiteNumbers.add(row.record.getSiteNumber());
+            }
+            minStart = minStart == null || row.record.getStartDate().isBefore(minStart) ? row.record.getStartDate() : minStart;
+            maxEnd = maxEnd == null || row.record.getEndDate().isAfter(maxEnd) ? row.record.getEndDate() : maxEnd;
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        LocalDate chunkStart = minStart;
+        LocalDate chunkEnd = maxEnd;
+        transactionTemplate.executeWithoutResult(status -> {
+            // 2. 확정 행이 들어갈 사이트를 잠가 일반 예약/단체 예약과 직렬화한다 (id 순서, 교착 방지)
+            if (!activeSiteNumbers.isEmpty()) {
+                campsiteRepository.findAllBySiteNumberForUpdate(activeSiteNumbers);
+            }
+
+            // 사이트별 중복 확인: 기존 예약은 한 번의 쿼리로, 같은 묶음 안의 행은 메모리 인덱스로
+            Map<Long, IntervalIndex<Long>> occupied = new HashMap<>();
+            for (Reservation existing : reservationRepository.findActiveReservations(sites, chunkStart, chunkEnd)) {
+                occupied.computeIfAbsent(existing.getCampsite().getId(), id -> new IntervalIndex<>())
+                        .add(existing.getStartDate().toEpochDay(), existing.getEndDate().toEpochDay(), existing.getId());
+            }
+
+            Map<Long, IntervalIndex<Long>> closed = new HashMap<>();
+            for (SiteClosure closure : siteClosureRepository.findOverlapping(sites, chunkStart, chunkEnd)) {
+                closed.computeIfAbsent(closure.getCampsite().getId(), id -> new IntervalIndex<>())
+                        .add(closure.getStartDate().toEpochDay(), closure.getEndDate().toEpochDay(), closure.getId());
+            }
+
+            // 묶음 안의 고객은 한 번에 조회/생성
+            Map<String, String> nameByPhoneNumber = new HashMap<>();
+            for (ImportRow row : valid) {
+                if (StringUtils.isNotEmpty(row.record.getPhoneNumber())) {
+                    nameByPhoneNumber.putIfAbsent(row.record.getPhoneNumber(), row.record.getCustomerName());
+                }
+            }
+            Map<String, Customer> customers = customerService.resolveAll(nameByPhoneNumber);
+
+            List<Reservation> toSave = new ArrayList<>(valid.size());
+            Set<Campsite> bookedSites = new HashSet<>();
+            for (ImportRow row : valid) {
+                ReservationImportRecord record = row.record;
+                Campsite campsite = campsites.get(record.getSiteNumber());
+                long start = record.getStartDate().toEpochDay();
+                long end = record.getEndDate().toEpochDay();
+
+                if (isActive(record.getStatus())) {
+                    IntervalIndex<Long> index = occupied.computeIfAbsent(campsite.getId(), id -> new IntervalIndex<>());
+                    if (!index.findOverlapping(start, end).isEmpty()) {
+                        result.reject(row.lineNumber, "해당 기간에 이미 예약이 존재합니다.");
+                        continue;
+                    }
+                    IntervalIndex<Long> closedIndex = closed.get(campsite.getId());
+                    if (closedIndex != null && !closedIndex.findOverlapping(start, end).isEmpty()) {
+                        result.reject(row.lineNumber, "해당 기간에는 운영하지 않는 사이트입니다.");
+                        continue;
+                    }
+                    if (reservationHoldService.isHeld(record.getSiteNumber(), record.getStartDate(), record.getEndDate())) {
+                        result.reject(row.lineNumber, "다른 고객이 예약을 진행 중인 기간입니다.");
+                        continue;
+                    }
+                    index.add(start, end, -row.lineNumber);
+                    bookedSites.add(campsite);
+                }
+                Reservation reservation = toReservation(record, campsite);
+                if (StringUtils.isNotEmpty(record.getPhoneNumber())) {
+                    reservation.setCustomer(customers.get(StringUtils.normalizePhoneNumber(record.getPhoneNumber())));
+                }
+                toSave.add(reservation);
+            }
+
+            // 3. 배치 INSERT 후 영속성 컨텍스트를 비워 다음 묶음이 메모리를 재사용하도록 한다
+            reservationRepository.saveAll(toSave);
+            entityManager.flush();
+            entityManager.clear();
+            result.addImported(toSave.size());
+
+            // 캐시 무효화 등은 확정 행이 들어간 사이트 단위로 한 번만 알린다 (취소 행만 있는 사이트는 점유가 변하지 않음)
+            for (Campsite campsite : bookedSites) {
+                eventPublisher.publishEvent(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.BOOKED,
+                        null, campsite.getId(), campsite.getSiteNumber(), chunkStart, chunkEnd));
+            }
+        });
+    }
+
+    private String validate(ReservationImportRecord record, Map<String, Campsite> campsites) {
+        if (record.getSiteNumber() == null || !campsites.containsKey(record.getSiteNumber())) {
+            return "존재하지 않는 캠핑장입니다: " + record.getSiteNumber();
+        }
+        if (record.getStartDate() == null || record.getEndDate() == null) {
+            return "예약 기간을 입력해주세요.";
+        }
+        if (record.getEndDate().isBefore(record.getStartDate())) {
+            return "종료일이 시작일보다 이전일 수 없습니다.";
+        }
+        if (StringUtils.isEmpty(record.getCustomerName())) {
+            return "예약자 이름을 입력해주세요.";
+        }
+        if (StringUtils.isNotEmpty(record.getPhoneNumber()) && !ValidationUtils.isValidPhoneNumber(record.getPhoneNumber())) {
+            return "전화번호 형식이 올바르지 않습니다.";
+        }
+        if (record.getStatus() != null && !IMPORTABLE_STATUSES.contains(record.getStatus())) {
+            return "가져올 수 없는 예약 상태입니다: " + record.getStatus();
+        }
+        return null;
+    }
+
+    private boolean isActive(String status) {
+        return status == null || status.equals("CONFIRMED");
+    }
+
+    private Reservation toReservation(ReservationImportRecord record, Campsite campsite) {
+        Reservation reservation = new Reservation();
+        reservation.setCustomerName(record.getCustomerName());
+        reservation.setPhoneNumber(record.getPhoneNumber());
+        reservation.setStartDate(record.getStartDate());
+        reservation.setEndDate(record.getEndDate());
+        reservation.setReservationDate(record.getStartDate());
+        reservation.setCampsite(campsite);
+        reservation.setStatus(record.getStatus());
+        reservation.setConfirmationCode(ReservationService.generateConfirmationCode());
+        return reservation;
+    }
+
+    private ReservationImportRecord parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 5 && columns.length != 6) {
+            throw new IllegalArgumentException("컬럼 수가 올바르지 않습니다: " + columns.length);
+        }
+        return new ReservationImportRecord(
+                columns[0].trim(),
+                columns[1].trim(),
+                columns[2].trim().isEmpty() ? null : columns[2].trim(),
+                LocalDate.parse(columns[3].trim()),
+                LocalDate.parse(columns[4].trim()),
+                columns.length == 6 && !columns[5].trim().isEmpty() ? columns[5].trim() : null);
+    }
+
+    private static final class ImportRow {
+        private final long lineNumber;
+        private final ReservationImportRecord record;
+
+        private ImportRow(long lineNumber, ReservationImportRecord record) {
+            this.lineNumber = lineNumber;
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.payment.PaymentCommand;
+import com.camping.legacy.payment.PaymentGateway;
+import com.camping.legacy.payment.PaymentResult;
+import com.camping.legacy.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 예약 + 결제 사가 (processReservationWithPayment 대체)
+ *
+ * 1. 짧은 트랜잭션으로 PENDING_PAYMENT 예약 생성 (사이트 선점)
+ * 2. 트랜잭션 밖에서 결제 게이트웨이 비동기 호출
+ * 3. 승인 시 confirmPayment, 실패 시 compensatePayment (각각 별도의 짧은 트랜잭션)
+ * 4. 결제 풀이 가득 차 시작하지 못했거나, 노드가 죽었거나, 결과 반영에 끝내 실패해 PENDING_PAYMENT로 남은 예약은
+ *    주기적인 정리 작업이 pending-timeout이 지나면 보상 처리해 사이트를 반환한다
+ * 5. 반영할 수 없게 된 승인(결제 중 취소, 정리 작업이 먼저 보상)은 게이트웨이에 환불을 요청한다
+ *
+ * 이 클래스는 의도적으로 @Transactional을 붙이지 않는다.
+ */
+@Slf4j
+@Service
+public class ReservationPaymentService {
+
+    private static final Set<String> PAYMENT_METHODS = Set.of("CARD", "CASH", "TRANSFER", "MOBILE");
+    private static final int MAX_COMPLETE_ATTEMPTS = 3;
+    private static final int SWEEP_BATCH_SIZE = 500;
+    private static final String STATUS_CONFIRMED = "CONFIRMED";
+
+    private final ReservationService reservationService;
+    private final PaymentGateway paymentGateway;
+    private final Executor paymentExecutor;
+    private final ReservationRepository reservationRepository;
+    private final long pendingTimeoutMinutes;
+
+    public ReservationPaymentService(ReservationService reservationService,
+                                     PaymentGateway paymentGateway,
+                                     @Qualifier("paymentExecutor") Executor paymentExecutor,
+                                     ReservationRepository reservationRepository,
+                                     @Value("${camping.payment.pending-timeout-minutes:10}") long pendingTimeoutMinutes) {
+        this.reservationService = reservationService;
+        this.paymentGateway = paymentGateway;
+        this.paymentExecutor = paymentExecutor;
+        this.reservationRepository = reservationRepository;
+        this.pendingTimeoutMinutes = pendingTimeoutMinutes;
+    }
+
+    /**
+     * 결제 대기 예약을 만들고 결제를 비동기로 시작한다.
+     * 반환되는 예약은 PENDING_PAYMENT 상태이며, 최종 상태는 예약 조회로 확인한다.
+     */
+    public ReservationResponse reserveWithPayment(ReservationRequest request, String paymentMethod) {
+        if (request == null) {
+            throw new CampingException(ErrorCode.RESERVATION_REQUIRED);
+        }
+        if (paymentMethod == null || paymentMethod.trim().isEmpty()) {
+            throw new CampingException(ErrorCode.PAYMENT_METHOD_REQUIRED);
+        }
+        if (!PAYMENT_METHODS.contains(paymentMethod)) {
+            throw new CampingException(ErrorCode.UNSUPPORTED_PAYMENT_METHOD);
+        }
+
+        ReservationResponse pending = reservationService.createPendingReservation(request);
+        int totalPrice = reservationService.calculateReservationPrice(
+                pending.getStartDate(), pending.getEndDate(), pending.getSiteNumber());
+
+        PaymentCommand command = new PaymentCommand(pending.getId(), paymentMethod, totalPrice);
+        try {
+            CompletableFuture.supplyAsync(() -> paymentGateway.pay(command), paymentExecutor)
+                    .whenComplete((result, error) -> completePayment(command, result, error));
+        } catch (RejectedExecutionException e) {
+            // 결제를 시작하지도 못했으므로 바로 보상해 사이트를 반환한다
+            log.warn("결제 풀 포화로 결제 시작 실패: 예약 ID={}", pending.getId());
+            reservationService.compensatePayment(pending.getId(), "결제 요청이 많아 처리하지 못했습니다.");
+            return reservationService.getReservation(pending.getId());
+        }
+
+        return pending;
+    }
+
+    /**
+     * 결제 결과 반영
+     * 같은 예약을 동시에 취소하는 등 버전 충돌이 나면 다시 읽어 반영한다 (이미 취소된 예약은 confirm/compensate가 무시).
+     * 끝내 실패하면 PENDING_PAYMENT로 남고 정리 작업이 처리한다.
+     * 승인된 결제를 예약에 반영하지 못하면(결제 중 취소, 정리 작업의 보상, 반영 실패) 승인을 환불한다.
+     */
+    private void completePayment(PaymentCommand command, PaymentResult result, Throwable error) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                applyPaymentResult(command, result, error);
+                return;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt == MAX_COMPLETE_ATTEMPTS) {
+                    log.error("결제 결과 반영 충돌 재시도 초과: 예약 ID={}", command.getReservationId(), e);
+                    refundIfApproved(command, result, error);
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("결제 결과 반영 실패: 예약 ID={}", command.getReservationId(), e);
+                refundIfApproved(command, result, error);
+                return;
+            }
+        }
+    }
+
+    private void applyPaymentResult(PaymentCommand command, PaymentResult result, Throwable error) {
+        if (error == null && result.isSuccess()) {
+            ReservationResponse reservation = reservationService.confirmPayment(command.getReservationId());
+            if (!STATUS_CONFIRMED.equals(reservation.getStatus())) {
+                refund(command, result);
+                return;
+            }
+            int earnedPoints = (int) (command.getAmount() * pointRate(command.getPaymentMethod()));
+            log.info("결제 완료 - 예약 ID={}, 결제금액={}원, 적립포인트={}P",
+                    command.getReservationId(), command.getAmount(), earnedPoints);
+        } else {
+            String reason = error != null ? error.getMessage() : result.getMessage();
+            reservationService.compensatePayment(command.getReservationId(), reason);
+        }
+    }
+
+    private void refundIfApproved(PaymentCommand command, PaymentResult result, Throwable error) {
+        if (error == null && result.isSuccess()) {
+            refund(command, result);
+        }
+    }
+
+    // 반영하지 못한 승인을 취소한다 (예약은 이미 사이트를 반환했거나 정리 작업이 반환한다)
+    private void refund(PaymentCommand command, PaymentResult result) {
+        try {
+            PaymentResult refund = paymentGateway.refund(command, result.getApprovalNumber());
+            if (refund.isSuccess()) {
+                log.warn("반영하지 못한 결제 승인 환불: 예약 ID={}, 승인번호={}",
+                        command.getReservationId(), result.getApprovalNumber());
+            } else {
+                log.error("결제 승인 환불 실패: 예약 ID={}, 승인번호={}, 사유={}",
+                        command.getReservationId(), result.getApprovalNumber(), refund.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.error("결제 승인 환불 실패: 예약 ID={}, 승인번호={}",
+                    command.getReservationId(), result.getApprovalNumber(), e);
+        }
+    }
+
+    /**
+     * 결과가 반영되지 않은 채 pending-timeout을 넘긴 결제 대기 예약을 보상 처리
+     * 늦게 도착한 승인 결과는 confirmPayment가 PAYMENT_FAILED 상태를 보고 반영하지 않고 환불된다.
+     */
+    @Scheduled(fixedDelayString = "${camping.payment.sweep-interval-ms:60000}")
+    public void compensateStalePendingPayments() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(pendingTimeoutMinutes);
+        List<Long> ids = reservationRepository.findStalePendingPaymentIds(before, PageRequest.of(0, SWEEP_BATCH_SIZE));
+        int compensated = 0;
+        for (Long id : ids) {
+            try {
+                reservationService.compensatePayment(id, "결제 응답 시간 초과");
+                compensated++;
+            } catch (RuntimeException e) {
+                // 다른 노드가 먼저 처리했거나 동시에 변경됨 - 다음 주기에 다시 확인
+                log.debug("결제 대기 예약 정리 실패: 예약 ID={}, {}", id, e.getMessage());
+            }
+        }
+        if (compensated > 0) {
+            log.warn("결제 대기 시간 초과 예약 {}건 보상 처리", compensated);
+        }
+    }
+
+    // 결제 수단별 포인트 적립률 (processReservationWithPayment와 동일)
+    private double pointRate(String paymentMethod) {
+        switch (paymentMethod) {
+            case "CARD":
+                return 0.10;
+            case "MOBILE":
+                return 0.08;
+            case "CASH":
+                return 0.03;
+            default:
+                return 0.05;
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package com.camping.legacy.service;
 
+import com.camping.legacy.analytics.MonthlyTotals;
+import com.camping.legacy.analytics.ReservationStatusCode;
 import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Customer;
 import com.camping.legacy.domain.Reservation;
 import com.camping.legacy.dto.CalendarResponse;
 import com.camping.legacy.dto.ReservationRequest;
 import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.event.ReservationConfirmedEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.exception.ReservationConflictException;
+import com.camping.legacy.monitoring.ReservationEvent;
 import com.camping.legacy.repository.CampsiteRepository;
 import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.repository.SiteClosureRepository;
 import com.camping.legacy.util.DateUtils;
+import com.camping.legacy.util.PriceCalculator;
 import com.camping.legacy.util.StringUtils;
 import com.camping.legacy.util.ValidationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 /**
@@ -49,8 +62,17 @@ public class ReservationService {
 
     private final ReservationRepository reservationRepository;
     private final CampsiteRepository campsiteRepository;
+    private final ReservationHoldService reservationHoldService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationArchiveService reservationArchiveService;
+    private final ReservationSnapshotService reservationSnapshotService;
+    private final CustomerService customerService;
+    private final SiteClosureRepository siteClosureRepository;
     
     private static final int MAX_RESERVATION_DAYS = 30;
+
+    private static final String STATUS_PENDING_PAYMENT = "PENDING_PAYMENT";
+    private static final String STATUS_PAYMENT_FAILED = "PAYMENT_FAILED";
     
     /**
      * 예약 생성 (절차적 방식)
@@ -59,6 +81,38 @@ public class ReservationService {
      * - 모든 로직을 한 곳에
      */
     public ReservationResponse createReservation(ReservationRequest request) {
+        return createReservation(request, null, "create");
+    }
+
+    /**
+     * 결제 대기(PENDING_PAYMENT) 상태의 예약 생성
+     * 결제는 트랜잭션 밖에서 ReservationPaymentService가 비동기로 처리하고
+     * confirmPayment / compensatePayment 로 결과를 반영한다.
+     */
+    public ReservationResponse createPendingReservation(ReservationRequest request) {
+        return createReservation(request, STATUS_PENDING_PAYMENT, "createPending");
+    }
+
+    private ReservationResponse createReservation(ReservationRequest request, String initialStatus, String operation) {
+        ReservationEvent event = new ReservationEvent(operation);
+        event.begin();
+        try {
+            ReservationResponse response = doCreateReservation(request, initialStatus, event);
+            event.outcome = "SUCCESS";
+            return response;
+        } catch (RuntimeException e) {
+            event.outcome = event.conflict ? "CONFLICT" : "REJECTED";
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private ReservationResponse doCreateReservation(ReservationRequest request, String initialStatus,
+                                                    ReservationEvent event) {
+        long phaseStart = System.nanoTime();
+        event.siteNumber = request.getSiteNumber();
+
         // ============================================================
         // STEP 1: 입력 데이터 추출
         // ============================================================
@@ -72,29 +126,30 @@ public class ReservationService {
         // STEP 2: 기본 검증 (중첩 레벨 1)
         // ============================================================
         if (siteNumber == null || siteNumber.trim().isEmpty()) {
-            throw new RuntimeException("사이트 번호를 입력해주세요.");
+            throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED);
         } else {
             // 사이트 존재 여부 확인 (중첩 레벨 2)
             Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
-                    .orElseThrow(() -> new RuntimeException("존재하지 않는 캠핑장입니다."));
+                    .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND));
 
             // 날짜 검증 (중첩 레벨 2)
             if (startDate == null || endDate == null) {
-                throw new RuntimeException("예약 기간을 선택해주세요.");
+                throw new CampingException(ErrorCode.PERIOD_REQUIRED);
             } else {
                 // 날짜 논리 검증 (중첩 레벨 3)
                 if (endDate.isBefore(startDate)) {
-                    throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+                    throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE);
                 } else {
                     // 과거 날짜 체크 (중첩 레벨 4)
                     LocalDate today = LocalDate.now();
                     if (startDate.isBefore(today)) {
-                        throw new RuntimeException("과거 날짜로 예약할 수 없습니다.");
+                        throw new CampingException(ErrorCode.PAST_DATE);
                     } else {
                         // 예약 기간 체크 (30일 이내)
                         long days = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
+                        event.stayDays = (int) days + 1;
                         if (days > 30) {
-                            throw new RuntimeException("예약 기간은 최대 30일입니다.");
+                            throw new CampingException(ErrorCode.PERIOD_TOO_LONG);
                         }
                     }
                 }
@@ -104,13 +159,13 @@ public class ReservationService {
             // STEP 3: 고객 정보 검증
             // ============================================================
             if (customerName == null || customerName.trim().isEmpty()) {
-                throw new RuntimeException("예약자 이름을 입력해주세요.");
+                throw new CampingException(ErrorCode.CUSTOMER_NAME_REQUIRED);
             } else {
                 // 이름 길이 체크
                 if (customerName.length() < 2) {
-                    throw new RuntimeException("예약자 이름은 최소 2자 이상이어야 합니다.");
+                    throw new CampingException(ErrorCode.CUSTOMER_NAME_TOO_SHORT);
                 } else if (customerName.length() > 20) {
-                    throw new RuntimeException("예약자 이름은 최대 20자까지 가능합니다.");
+                    throw new CampingException(ErrorCode.CUSTOMER_NAME_TOO_LONG);
                 }
             }
 
@@ -118,84 +173,70 @@ public class ReservationService {
             if (phoneNumber != null && !phoneNumber.trim().isEmpty()) {
                 String cleaned = phoneNumber.replaceAll("-", "");
                 if (cleaned.length() < 10) {
-                    throw new RuntimeException("전화번호 형식이 올바르지 않습니다.");
+                    throw new CampingException(ErrorCode.INVALID_PHONE_NUMBER);
                 } else if (cleaned.length() > 11) {
-                    throw new RuntimeException("전화번호 형식이 올바르지 않습니다.");
+                    throw new CampingException(ErrorCode.INVALID_PHONE_NUMBER);
                 } else {
                     // 숫자인지 확인
                     try {
                         Long.parseLong(cleaned);
                     } catch (NumberFormatException e) {
-                        throw new RuntimeException("전화번호는 숫자만 입력 가능합니다.");
+                        throw new CampingException(ErrorCode.PHONE_NUMBER_NOT_NUMERIC);
                     }
                 }
             }
 
             // ============================================================
-            // STEP 4: 예약 가능 여부 확인
+            // STEP 3-1: 동시성 문제 재현을 위한 지연 (사이트 잠금 전이라 다른 요청을 막지 않음)
             // ============================================================
-            boolean hasConflict = reservationRepository.existsByCampsiteAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                    campsite, endDate, startDate);
-            if (hasConflict) {
-                throw new RuntimeException("해당 기간에 이미 예약이 존재합니다.");
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
 
+            long validated = System.nanoTime();
+            event.validationTime = validated - phaseStart;
+
             // ============================================================
-            // STEP 5: 가격 계산
+            // STEP 4: 예약 가능 여부 확인
             // ============================================================
-            int totalPrice = 0;
-            LocalDate current = startDate;
-            while (!current.isAfter(endDate)) {
-                int dailyPrice = 0;
-
-                // 사이트 종류별 기본 가격
-                if (siteNumber.startsWith("A")) {
-                    dailyPrice = 80000; // 대형
-                } else if (siteNumber.startsWith("B")) {
-                    dailyPrice = 50000; // 소형
-                } else {
-                    dailyPrice = 60000; // 기타
-                }
+            // 사이트를 잠근 뒤 중복을 확인한다. 같은 사이트의 생성은 잠금 순서대로 처리되므로
+            // 겹치지 않는 기간은 충돌 없이 모두 저장되고, 겹치면 뒤 요청이 앞 예약을 보고 409가 된다.
+            campsite = campsiteRepository.findByIdForUpdate(campsite.getId())
+                    .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND));
+            boolean hasConflict = reservationRepository.existsActiveReservation(campsite, startDate, endDate);
+            event.conflictCheckTime = System.nanoTime() - validated;
+            event.conflict = hasConflict;
+            if (hasConflict) {
+                throw new ReservationConflictException(ErrorCode.RESERVATION_CONFLICT, List.of(siteNumber));
+            }
 
-                // 주말 체크
-                java.time.DayOfWeek dayOfWeek = current.getDayOfWeek();
-                boolean isWeekend = (dayOfWeek == java.time.DayOfWeek.SATURDAY ||
-                                   dayOfWeek == java.time.DayOfWeek.SUNDAY);
-
-                // 성수기 체크 (7월, 8월)
-                int month = current.getMonthValue();
-                boolean isPeakSeason = (month >= 7 && month <= 8);
-
-                // 할증 적용
-                if (isWeekend && isPeakSeason) {
-                    dailyPrice = (int) (dailyPrice * 1.7); // 70% 할증
-                } else if (isPeakSeason) {
-                    dailyPrice = (int) (dailyPrice * 1.5); // 50% 할증
-                } else if (isWeekend) {
-                    dailyPrice = (int) (dailyPrice * 1.3); // 30% 할증
-                }
+            // 운영자가 폐쇄한 기간이면 예약 불가
+            if (siteClosureRepository.existsOverlapping(campsite, startDate, endDate)) {
+                event.conflict = true;
+                throw new ReservationConflictException(ErrorCode.SITE_CLOSED, List.of(siteNumber));
+            }
 
-                totalPrice += dailyPrice;
-                current = current.plusDays(1);
+            // 다른 고객이 결제/정보 입력 중인 홀드와 겹치면 예약 불가
+            if (reservationHoldService.isHeldByOthers(siteNumber, startDate, endDate, request.getHoldToken())) {
+                event.conflict = true;
+                throw new ReservationConflictException(ErrorCode.SITE_ON_HOLD, List.of(siteNumber));
             }
 
+            // ============================================================
+            // STEP 5: 가격 계산
+            // ============================================================
+            // 평일/주말 × 비수기/성수기 일수로 바로 계산 (하루씩 돌지 않음)
+            int totalPrice = PriceCalculator.calculateTotalPrice(siteNumber, startDate, endDate);
+
             log.info("예약 금액 계산 완료: {}원", totalPrice);
 
             // ============================================================
             // STEP 6: 포인트 계산
             // ============================================================
             double pointRate = 0.05; // 기본 5%
-            current = startDate;
-            boolean hasWeekend = false;
-            while (!current.isAfter(endDate)) {
-                java.time.DayOfWeek dayOfWeek = current.getDayOfWeek();
-                if (dayOfWeek == java.time.DayOfWeek.SATURDAY ||
-                    dayOfWeek == java.time.DayOfWeek.SUNDAY) {
-                    hasWeekend = true;
-                    break;
-                }
-                current = current.plusDays(1);
-            }
+            boolean hasWeekend = DateUtils.hasWeekend(startDate, endDate);
 
             if (hasWeekend) {
                 pointRate = 0.10; // 주말 10%
@@ -205,16 +246,7 @@ public class ReservationService {
             log.info("적립 포인트 계산 완료: {}P", earnedPoints);
 
             // ============================================================
-            // STEP 7: 동시성 문제 재현을 위한 지연
-            // ============================================================
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-            // ============================================================
-            // STEP 8: 예약 객체 생성
+            // STEP 7: 예약 객체 생성
             // ============================================================
             Reservation reservation = new Reservation();
             reservation.setCustomerName(customerName);
@@ -223,6 +255,8 @@ public class ReservationService {
             reservation.setReservationDate(startDate);
             reservation.setCampsite(campsite);
             reservation.setPhoneNumber(phoneNumber);
+            reservation.setCustomer(customerService.resolve(customerName, phoneNumber));
+            reservation.setStatus(initialStatus);
 
             // 확인 코드 생성
             String confirmationCode = "";
@@ -238,13 +272,20 @@ public class ReservationService {
             reservation.setConfirmationCode(confirmationCode);
 
             // ============================================================
-            // STEP 9: 예약 저장
+            // STEP 8: 예약 저장
             // ============================================================
+            long persistStart = System.nanoTime();
             Reservation saved = reservationRepository.save(reservation);
+            event.persistTime = System.nanoTime() - persistStart;
             log.info("예약 저장 완료: ID={}", saved.getId());
+            reservationHoldService.releaseAfterCommit(request.getHoldToken());
+            publishChange(ReservationChangedEvent.ChangeType.BOOKED, saved);
+            if ("CONFIRMED".equals(saved.getStatus())) {
+                eventPublisher.publishEvent(new ReservationConfirmedEvent(saved.getId()));
+            }
 
             // ============================================================
-            // STEP 10: 알림 발송 (시뮬레이션)
+            // STEP 9: 알림 발송 (시뮬레이션)
             // ============================================================
             log.info("===========================================");
             log.info("[예약 확인 알림]");
@@ -257,7 +298,7 @@ public class ReservationService {
             log.info("===========================================");
 
             // ============================================================
-            // STEP 11: 응답 객체 생성 (직접 변환)
+            // STEP 10: 응답 객체 생성 (직접 변환)
             // ============================================================
             ReservationResponse response = new ReservationResponse();
             response.setId(saved.getId());
@@ -276,16 +317,14 @@ public class ReservationService {
     @Transactional(readOnly = true)
     public ReservationResponse getReservation(Long id) {
         Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.RESERVATION_NOT_FOUND));
         return ReservationResponse.from(reservation);
     }
     
     @Transactional(readOnly = true)
     public List<ReservationResponse> getReservationsByDate(LocalDate date) {
-        List<Reservation> reservations = reservationRepository.findAll().stream()
-                .filter(r -> r.getStartDate() != null && r.getEndDate() != null)
-                .filter(r -> !date.isBefore(r.getStartDate()) && !date.isAfter(r.getEndDate()))
-                .collect(Collectors.toList());
+        // 보관된 예약은 날짜가 보관 기준일 이전일 때만 함께 조회된다
+        List<Reservation> reservations = reservationArchiveService.findOverlapping(date, date);
         
         return reservations.stream()
                 .map(ReservationResponse::from)
@@ -300,23 +339,72 @@ public class ReservationService {
     }
     
     public void cancelReservation(Long id, String confirmationCode) {
-        Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
-        
-        if (!reservation.getConfirmationCode().equals(confirmationCode)) {
-            throw new RuntimeException("확인 코드가 일치하지 않습니다.");
+        ReservationEvent event = new ReservationEvent("cancel");
+        event.begin();
+        event.outcome = "REJECTED";
+        long phaseStart = System.nanoTime();
+        try {
+            Reservation reservation = reservationRepository.findById(id)
+                    .orElseThrow(() -> new CampingException(ErrorCode.RESERVATION_NOT_FOUND));
+            if (event.isEnabled()) {
+                // 지연 로딩 쿼리는 녹화 중일 때만 발생시킨다
+                event.siteNumber = reservation.getCampsite().getSiteNumber();
+                event.stayDays = (int) DateUtils.getDaysBetween(reservation.getStartDate(), reservation.getEndDate()) + 1;
+            }
+
+            if (!reservation.getConfirmationCode().equals(confirmationCode)) {
+                throw new CampingException(ErrorCode.CONFIRMATION_CODE_MISMATCH);
+            }
+            // 이미 사이트를 반환한 예약을 다시 취소하면 FREED가 중복 발행되어 대기자 제안/적립 취소가 다시 돈다
+            if (!ReservationStatusCode.isActive(ReservationStatusCode.of(reservation.getStatus()))) {
+                throw new CampingException(ErrorCode.RESERVATION_NOT_ACTIVE);
+            }
+            event.validationTime = System.nanoTime() - phaseStart;
+
+            LocalDate today = LocalDate.now();
+            if (reservation.getStartDate().equals(today)) {
+                reservation.setStatus("CANCELLED_SAME_DAY");
+            } else {
+                reservation.setStatus("CANCELLED");
+            }
+
+            long persistStart = System.nanoTime();
+            reservationRepository.save(reservation);
+            event.persistTime = System.nanoTime() - persistStart;
+            publishChange(ReservationChangedEvent.ChangeType.FREED, reservation);
+            event.outcome = "SUCCESS";
+        } finally {
+            event.commit();
         }
-        
+    }
+    
+    /**
+     * 수정 후 기간 검증 (중복 코드 3 - createReservation과 유사)
+     * 시작일이나 종료일 하나만 바꿔도 합쳐진 기간으로 검사한다.
+     * 이미 시작된 예약의 종료일만 바꾸는 경우는 시작일 대신 종료일이 과거인지 본다.
+     */
+    private void validateUpdatedPeriod(Reservation reservation, boolean startDateChanged) {
+        LocalDate startDate = reservation.getStartDate();
+        LocalDate endDate = reservation.getEndDate();
+        if (startDate == null || endDate == null) {
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED);
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE);
+        }
+
+        // 과거 날짜 체크
         LocalDate today = LocalDate.now();
-        if (reservation.getStartDate().equals(today)) {
-            reservation.setStatus("CANCELLED_SAME_DAY");
-        } else {
-            reservation.setStatus("CANCELLED");
+        if ((startDateChanged ? startDate : endDate).isBefore(today)) {
+            throw new CampingException(ErrorCode.PAST_DATE);
+        }
+
+        // 예약 기간 체크 (30일 이내)
+        if (java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) > 30) {
+            throw new CampingException(ErrorCode.PERIOD_TOO_LONG);
         }
-        
-        reservationRepository.save(reservation);
     }
-    
+
     // 고객 이름으로 예약 조회
     @Transactional(readOnly = true)
     public List<ReservationResponse> getReservationsByCustomerName(String customerName) {
@@ -329,7 +417,7 @@ public class ReservationService {
     public List<ReservationResponse> searchReservations(String keyword) {
         // 키워드 검증 (중복 코드 1)
         if (keyword == null || keyword.trim().isEmpty()) {
-            throw new RuntimeException("검색어를 입력해주세요.");
+            throw new CampingException(ErrorCode.KEYWORD_REQUIRED);
         }
 
         List<Reservation> reservations = reservationRepository.findAll().stream()
@@ -356,47 +444,49 @@ public class ReservationService {
     }
     
     public ReservationResponse updateReservation(Long id, ReservationRequest request, String confirmationCode) {
+        ReservationEvent event = new ReservationEvent("update");
+        event.begin();
+        event.outcome = "REJECTED";
+        try {
+            ReservationResponse response = doUpdateReservation(id, request, confirmationCode, event);
+            event.outcome = "SUCCESS";
+            return response;
+        } catch (ReservationConflictException e) {
+            event.outcome = "CONFLICT";
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private ReservationResponse doUpdateReservation(Long id, ReservationRequest request, String confirmationCode,
+                                                    ReservationEvent event) {
+        long phaseStart = System.nanoTime();
         Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.RESERVATION_NOT_FOUND));
 
         // 확인 코드 검증 (중복 코드 2 - cancelReservation과 동일)
         if (confirmationCode == null || confirmationCode.trim().isEmpty()) {
-            throw new RuntimeException("확인 코드를 입력해주세요.");
+            throw new CampingException(ErrorCode.CONFIRMATION_CODE_REQUIRED);
         }
         if (!reservation.getConfirmationCode().equals(confirmationCode)) {
-            throw new RuntimeException("확인 코드가 일치하지 않습니다.");
-        }
-
-        // 날짜 유효성 검증 (중복 코드 3 - createReservation과 유사)
-        if (request.getStartDate() != null && request.getEndDate() != null) {
-            LocalDate startDate = request.getStartDate();
-            LocalDate endDate = request.getEndDate();
-
-            if (startDate == null || endDate == null) {
-                throw new RuntimeException("예약 기간을 선택해주세요.");
-            }
-
-            if (endDate.isBefore(startDate)) {
-                throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
-            }
-
-            // 과거 날짜 체크
-            LocalDate today = LocalDate.now();
-            if (startDate.isBefore(today)) {
-                throw new RuntimeException("과거 날짜로 예약할 수 없습니다.");
-            }
+            throw new CampingException(ErrorCode.CONFIRMATION_CODE_MISMATCH);
         }
 
         // 고객 이름 검증 (중복 코드 4)
         if (request.getCustomerName() != null) {
             if (request.getCustomerName().trim().isEmpty()) {
-                throw new RuntimeException("예약자 이름을 입력해주세요.");
+                throw new CampingException(ErrorCode.CUSTOMER_NAME_REQUIRED);
             }
         }
 
+        Campsite previousCampsite = reservation.getCampsite();
+        LocalDate previousStartDate = reservation.getStartDate();
+        LocalDate previousEndDate = reservation.getEndDate();
+
         if (request.getSiteNumber() != null) {
             Campsite campsite = campsiteRepository.findBySiteNumber(request.getSiteNumber())
-                    .orElseThrow(() -> new RuntimeException("존재하지 않는 캠핑장입니다."));
+                    .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND));
             reservation.setCampsite(campsite);
         }
 
@@ -406,15 +496,60 @@ public class ReservationService {
         if (request.getEndDate() != null) {
             reservation.setEndDate(request.getEndDate());
         }
+        if (request.getStartDate() != null || request.getEndDate() != null) {
+            validateUpdatedPeriod(reservation, request.getStartDate() != null);
+        }
 
         if (request.getCustomerName() != null) {
             reservation.setCustomerName(request.getCustomerName());
         }
         if (request.getPhoneNumber() != null) {
             reservation.setPhoneNumber(request.getPhoneNumber());
+            reservation.setCustomer(customerService.resolve(reservation.getCustomerName(), request.getPhoneNumber()));
+        }
+        event.validationTime = System.nanoTime() - phaseStart;
+
+        // 사이트/기간이 바뀐 유효 예약은 자신을 제외한 중복을 확인하고, 커밋 시 사이트 버전을 올린다.
+        // 같은 사이트에 대한 동시 예약/수정은 버전 충돌로 하나만 커밋된다 (ReservationUpdateService가 재시도).
+        boolean moved = !reservation.getCampsite().getId().equals(previousCampsite.getId())
+                || !reservation.getStartDate().equals(previousStartDate)
+                || !reservation.getEndDate().equals(previousEndDate);
+        if (moved && ReservationStatusCode.isActive(ReservationStatusCode.of(reservation.getStatus()))) {
+            long conflictCheckStart = System.nanoTime();
+            Campsite campsite = campsiteRepository.findByIdForBooking(reservation.getCampsite().getId())
+                    .orElseThrow(() -> new CampingException(ErrorCode.CAMPSITE_NOT_FOUND));
+            boolean hasConflict = reservationRepository.existsActiveReservationExcluding(
+                    campsite, reservation.getStartDate(), reservation.getEndDate(), reservation.getId());
+            event.conflictCheckTime = System.nanoTime() - conflictCheckStart;
+            event.conflict = hasConflict;
+            if (hasConflict) {
+                throw new ReservationConflictException(ErrorCode.RESERVATION_CONFLICT, List.of(campsite.getSiteNumber()));
+            }
+            if (siteClosureRepository.existsOverlapping(campsite, reservation.getStartDate(), reservation.getEndDate())) {
+                event.conflict = true;
+                throw new ReservationConflictException(ErrorCode.SITE_CLOSED, List.of(campsite.getSiteNumber()));
+            }
+            if (reservationHoldService.isHeldByOthers(campsite.getSiteNumber(), reservation.getStartDate(),
+                    reservation.getEndDate(), request.getHoldToken())) {
+                event.conflict = true;
+                throw new ReservationConflictException(ErrorCode.SITE_ON_HOLD, List.of(campsite.getSiteNumber()));
+            }
+        }
+        event.siteNumber = reservation.getCampsite().getSiteNumber();
+        if (reservation.getStartDate() != null && reservation.getEndDate() != null) {
+            event.stayDays = (int) DateUtils.getDaysBetween(reservation.getStartDate(), reservation.getEndDate()) + 1;
         }
 
+        long persistStart = System.nanoTime();
         Reservation updated = reservationRepository.save(reservation);
+        event.persistTime = System.nanoTime() - persistStart;
+
+        if (moved) {
+            eventPublisher.publishEvent(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.FREED,
+                    updated.getId(), previousCampsite.getId(), previousCampsite.getSiteNumber(),
+                    previousStartDate, previousEndDate));
+            publishChange(ReservationChangedEvent.ChangeType.BOOKED, updated);
+        }
 
         // DTO 변환 로직 중복 - 직접 변환
         ReservationResponse response = new ReservationResponse();
@@ -434,19 +569,23 @@ public class ReservationService {
     public List<ReservationResponse> getReservationsByNameAndPhone(String name, String phone) {
         // 이름/전화번호 검증 (중복 코드 5)
         if (name == null || name.trim().isEmpty()) {
-            throw new RuntimeException("이름을 입력해주세요.");
+            throw new CampingException(ErrorCode.NAME_REQUIRED);
         }
         if (phone == null || phone.trim().isEmpty()) {
-            throw new RuntimeException("전화번호를 입력해주세요.");
+            throw new CampingException(ErrorCode.PHONE_NUMBER_REQUIRED);
         }
 
         // 전화번호 형식 검증 (하드코딩)
         String cleanedPhone = phone.replaceAll("-", "");
         if (cleanedPhone.length() < 10 || cleanedPhone.length() > 11) {
-            throw new RuntimeException("전화번호 형식이 올바르지 않습니다.");
+            throw new CampingException(ErrorCode.INVALID_PHONE_NUMBER);
         }
 
-        List<Reservation> reservations = reservationRepository.findByCustomerNameAndPhoneNumber(name, phone);
+        // 정규화한 전화번호로 고객을 찾아 고객 인덱스로 조회 (하이픈 유무와 무관)
+        Customer customer = customerService.findByPhoneNumber(phone).orElse(null);
+        List<Reservation> reservations = customer == null
+                ? List.of()
+                : reservationRepository.findByCustomerAndCustomerName(customer, name);
 
         // DTO 변환 로직 중복
         List<ReservationResponse> responses = new ArrayList<>();
@@ -470,7 +609,9 @@ public class ReservationService {
      * 결제를 포함한 예약 처리 (절차적 방식)
      * 예약 생성 + 결제 + 알림을 모두 한 메서드에서 처리
      *
-     * @deprecated 너무 많은 책임을 가진 메서드. 향후 분리 필요
+     * @deprecated 너무 많은 책임을 가진 메서드.
+     *             결제 실패 시에도 예약이 남고 결제 대기 동안 DB 커넥션을 점유한다.
+     *             ReservationPaymentService.reserveWithPayment()를 사용하세요.
      */
     @Deprecated
     public Map<String, Object> processReservationWithPayment(ReservationRequest request, String paymentMethod) {
@@ -480,20 +621,20 @@ public class ReservationService {
         // 1. 예약 정보 검증
         // ============================================================
         if (request == null) {
-            throw new RuntimeException("예약 정보가 없습니다.");
+            throw new CampingException(ErrorCode.RESERVATION_REQUIRED);
         }
 
         // ============================================================
         // 2. 결제 수단 검증
         // ============================================================
         if (paymentMethod == null || paymentMethod.trim().isEmpty()) {
-            throw new RuntimeException("결제 수단을 선택해주세요.");
+            throw new CampingException(ErrorCode.PAYMENT_METHOD_REQUIRED);
         }
 
         // 허용된 결제 수단인지 확인
         if (!paymentMethod.equals("CARD") && !paymentMethod.equals("CASH") &&
             !paymentMethod.equals("TRANSFER") && !paymentMethod.equals("MOBILE")) {
-            throw new RuntimeException("지원하지 않는 결제 수단입니다.");
+            throw new CampingException(ErrorCode.UNSUPPORTED_PAYMENT_METHOD);
         }
 
         // ============================================================
@@ -502,43 +643,16 @@ public class ReservationService {
         ReservationResponse reservationResponse = null;
         try {
             reservationResponse = createReservation(request);
-        } catch (Exception e) {
+        } catch (CampingException e) {
             log.error("예약 생성 실패: {}", e.getMessage());
-            throw new RuntimeException("예약 생성 중 오류가 발생했습니다: " + e.getMessage());
+            throw e;
         }
 
         // ============================================================
         // 4. 가격 계산 (중복 로직)
         // ============================================================
-        int totalPrice = 0;
-        LocalDate current = request.getStartDate();
-        while (!current.isAfter(request.getEndDate())) {
-            int dailyPrice = 0;
-            if (request.getSiteNumber().startsWith("A")) {
-                dailyPrice = 80000;
-            } else if (request.getSiteNumber().startsWith("B")) {
-                dailyPrice = 50000;
-            } else {
-                dailyPrice = 60000;
-            }
-
-            // 주말/성수기 할증
-            java.time.DayOfWeek day = current.getDayOfWeek();
-            boolean isWeekend = (day == java.time.DayOfWeek.SATURDAY || day == java.time.DayOfWeek.SUNDAY);
-            int month = current.getMonthValue();
-            boolean isPeakSeason = (month >= 7 && month <= 8);
-
-            if (isWeekend && isPeakSeason) {
-                dailyPrice = (int) (dailyPrice * 1.7);
-            } else if (isPeakSeason) {
-                dailyPrice = (int) (dailyPrice * 1.5);
-            } else if (isWeekend) {
-                dailyPrice = (int) (dailyPrice * 1.3);
-            }
-
-            totalPrice += dailyPrice;
-            current = current.plusDays(1);
-        }
+        int totalPrice = PriceCalculator.calculateTotalPrice(
+                request.getSiteNumber(), request.getStartDate(), request.getEndDate());
 
         log.info("총 결제 금액: {}원", totalPrice);
 
@@ -565,7 +679,7 @@ public class ReservationService {
             } else {
                 log.error("[카드 결제] 승인 실패");
                 // 예약 취소 처리 필요
-                throw new RuntimeException("카드 결제가 실패했습니다.");
+                throw new CampingException(ErrorCode.PAYMENT_DECLINED);
             }
         } else if (paymentMethod.equals("CASH")) {
             // 현금 결제
@@ -642,9 +756,55 @@ public class ReservationService {
         return result;
     }
 
-    private String generateConfirmationCode() {
+    /**
+     * 결제 승인 반영 (PENDING_PAYMENT -> CONFIRMED)
+     * 결제 대기 중 취소되었거나 정리 작업이 보상한 예약은 그대로 두고 현재 상태를 돌려준다.
+     * 호출자는 반환된 상태가 CONFIRMED가 아니면 승인된 결제를 환불해야 한다.
+     */
+    public ReservationResponse confirmPayment(Long id) {
+        Reservation reservation = reservationRepository.findById(id)
+                .orElseThrow(() -> new CampingException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        if (STATUS_PENDING_PAYMENT.equals(reservation.getStatus())) {
+            reservation.setStatus("CONFIRMED");
+            eventPublisher.publishEvent(new ReservationConfirmedEvent(id));
+            log.info("결제 승인 반영 완료: 예약 ID={}", id);
+        } else {
+            log.warn("결제 대기 상태가 아닌 예약의 승인 요청 무시: 예약 ID={}, 상태={}", id, reservation.getStatus());
+        }
+        return ReservationResponse.from(reservation);
+    }
+
+    /**
+     * 결제 실패 보상 처리 (PENDING_PAYMENT -> PAYMENT_FAILED)
+     * PAYMENT_FAILED 예약은 중복 체크에서 제외되므로 사이트가 즉시 반환된다.
+     */
+    public void compensatePayment(Long id, String reason) {
+        Reservation reservation = reservationRepository.findById(id)
+                .orElseThrow(() -> new CampingException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        if (!STATUS_PENDING_PAYMENT.equals(reservation.getStatus())) {
+            log.warn("결제 대기 상태가 아닌 예약의 보상 요청 무시: 예약 ID={}, 상태={}", id, reservation.getStatus());
+            return;
+        }
+        reservation.setStatus(STATUS_PAYMENT_FAILED);
+        publishChange(ReservationChangedEvent.ChangeType.FREED, reservation);
+        log.info("결제 실패로 예약 해제: 예약 ID={}, 사유={}", id, reason);
+    }
+
+    private void publishChange(ReservationChangedEvent.ChangeType changeType, Reservation reservation) {
+        Campsite campsite = reservation.getCampsite();
+        eventPublisher.publishEvent(new ReservationChangedEvent(changeType, reservation.getId(),
+                campsite.getId(), campsite.getSiteNumber(), reservation.getStartDate(), reservation.getEndDate()));
+    }
+
+    /**
+     * 6자리 영숫자 확인 코드 생성
+     * 대량 가져오기에서도 트랜잭션 프록시를 거치지 않고 쓸 수 있도록 static으로 둔다.
+     */
+    public static String generateConfirmationCode() {
         String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        Random random = new Random();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         StringBuilder code = new StringBuilder();
         for (int i = 0; i < 6; i++) {
             code.append(chars.charAt(random.nextInt(chars.length())));
@@ -662,30 +822,47 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public CalendarResponse getMonthlyCalendar(Integer year, Integer month, Long siteId) {
+        ReservationEvent event = new ReservationEvent("calendar");
+        event.begin();
+        event.outcome = "REJECTED";
+        try {
+            CalendarResponse response = buildMonthlyCalendar(year, month, siteId);
+            event.siteNumber = response.getSiteNumber();
+            event.outcome = "SUCCESS";
+            return response;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private CalendarResponse buildMonthlyCalendar(Integer year, Integer month, Long siteId) {
         // 사이트 조회
         Campsite campsite = campsiteRepository.findById(siteId)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.SITE_NOT_FOUND));
 
         // 해당 월의 시작일과 종료일 계산
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        // 모든 예약 조회 (성능 이슈 가능)
-        List<Reservation> allReservations = reservationRepository.findAll();
-        Map<LocalDate, Reservation> reservationMap = new HashMap<>();
+        // 해당 사이트, 해당 월과 겹치는 예약만 조회 (지난 달이면 보관 테이블 포함)
+        List<Reservation> allReservations = reservationArchiveService.findOverlappingBySite(siteId, startDate, endDate);
 
-        // 예약 기간 내의 모든 날짜에 대해 예약 정보 추가
+        // 일자 오프셋(1일 = 0)별 예약 - 예약 기간과 월의 교집합만 채운다
+        long monthStart = startDate.toEpochDay();
+        long monthEnd = endDate.toEpochDay();
+        Reservation[] reservationByDay = new Reservation[yearMonth.lengthOfMonth()];
+        int reservedDays = 0;
         for (Reservation reservation : allReservations) {
             if (reservation.getCampsite().getId().equals(siteId) &&
                 reservation.getStartDate() != null && reservation.getEndDate() != null) {
-                LocalDate current = reservation.getStartDate();
-                // 날짜를 하나씩 증가시키면서 맵에 추가
-                while (!current.isAfter(reservation.getEndDate()) && !current.isAfter(endDate)) {
-                    if (!current.isBefore(startDate)) {
-                        reservationMap.put(current, reservation);
+                long from = Math.max(monthStart, reservation.getStartDate().toEpochDay());
+                long to = Math.min(monthEnd, reservation.getEndDate().toEpochDay());
+                for (long day = from; day <= to; day++) {
+                    if (reservationByDay[(int) (day - monthStart)] == null) {
+                        reservedDays++;
                     }
-                    current = current.plusDays(1);
+                    reservationByDay[(int) (day - monthStart)] = reservation;
                 }
             }
         }
@@ -694,7 +871,7 @@ public class ReservationService {
         List<CalendarResponse.DayStatus> days = new ArrayList<>();
         for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
             LocalDate date = yearMonth.atDay(day);
-            Reservation reservation = reservationMap.get(date);
+            Reservation reservation = reservationByDay[day - 1];
 
             days.add(CalendarResponse.DayStatus.builder()
                     .date(date)
@@ -707,8 +884,8 @@ public class ReservationService {
         // 요약 정보 생성
         Map<String, Integer> summary = new HashMap<>();
         summary.put("totalDays", yearMonth.lengthOfMonth());
-        summary.put("reservedDays", reservationMap.size());
-        summary.put("availableDays", yearMonth.lengthOfMonth() - reservationMap.size());
+        summary.put("reservedDays", reservedDays);
+        summary.put("availableDays", yearMonth.lengthOfMonth() - reservedDays);
 
         return CalendarResponse.builder()
                 .year(year)
@@ -731,20 +908,8 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public int getDailyReservationCount(LocalDate date) {
-        // 모든 예약을 가져와서 필터링 (비효율적)
-        List<Reservation> allReservations = reservationRepository.findAll();
-        int count = 0;
-
-        for (Reservation reservation : allReservations) {
-            if (reservation.getStartDate() != null && reservation.getEndDate() != null) {
-                // 날짜가 예약 기간에 포함되는지 확인
-                if (!date.isBefore(reservation.getStartDate()) && !date.isAfter(reservation.getEndDate())) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        // 해당 날짜와 겹치는 예약만 조회
+        return reservationArchiveService.findOverlapping(date, date).size();
     }
 
     /**
@@ -759,19 +924,8 @@ public class ReservationService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<Reservation> allReservations = reservationRepository.findAll();
-        int count = 0;
-
         // 해당 월에 시작하는 예약 카운트
-        for (Reservation r : allReservations) {
-            if (r.getStartDate() != null) {
-                if (!r.getStartDate().isBefore(startDate) && !r.getStartDate().isAfter(endDate)) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return reservationArchiveService.findStartingBetween(startDate, endDate).size();
     }
 
     /**
@@ -780,24 +934,20 @@ public class ReservationService {
      */
     @Transactional(readOnly = true)
     public double getCancellationRate() {
-        List<Reservation> allReservations = reservationRepository.findAll();
-
-        if (allReservations.isEmpty()) {
-            return 0.0;
+        // 스냅샷이 준비됐으면 컬럼 파일만 훑는다
+        if (reservationSnapshotService.isReady()) {
+            return reservationSnapshotService.cancellationRate();
         }
 
-        int totalCount = allReservations.size();
-        int cancelledCount = 0;
+        // 전체 기간 통계이므로 보관 테이블 포함, 건수만 조회
+        long totalCount = reservationArchiveService.countAll();
 
-        // 취소된 예약 카운트
-        for (Reservation r : allReservations) {
-            if (r.getStatus() != null) {
-                if (r.getStatus().equals("CANCELLED") || r.getStatus().equals("CANCELLED_SAME_DAY")) {
-                    cancelledCount++;
-                }
-            }
+        if (totalCount == 0) {
+            return 0.0;
         }
 
+        long cancelledCount = reservationArchiveService.countCancelled();
+
         // 취소율 계산
         double rate = (double) cancelledCount / totalCount;
         return rate;
@@ -815,6 +965,18 @@ public class ReservationService {
         report.put("year", year);
         report.put("month", month);
 
+        if (reservationSnapshotService.isReady()) {
+            YearMonth yearMonth = YearMonth.of(year, month);
+            MonthlyTotals totals = reservationSnapshotService.monthlyTotals(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+            report.put("reservationCount", totals.getReservationCount());
+            report.put("totalRevenue", totals.getTotalRevenue());
+            report.put("cancellationRate", getCancellationRate());
+            report.put("averageReservationDays", totals.getReservationCount() == 0
+                    ? 0.0 : (double) totals.getTotalStayDays() / totals.getReservationCount());
+            return report;
+        }
+
+        // 스냅샷 준비 전에는 DB에서 직접 계산
         // 예약 건수
         int reservationCount = getMonthlyReservationCount(year, month);
         report.put("reservationCount", reservationCount);
@@ -824,10 +986,7 @@ public class ReservationService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<Reservation> monthlyReservations = reservationRepository.findAll().stream()
-                .filter(r -> r.getStartDate() != null)
-                .filter(r -> !r.getStartDate().isBefore(startDate) && !r.getStartDate().isAfter(endDate))
-                .collect(Collectors.toList());
+        List<Reservation> monthlyReservations = reservationArchiveService.findStartingBetween(startDate, endDate);
 
         int totalRevenue = 0;
         for (Reservation r : monthlyReservations) {
@@ -870,48 +1029,7 @@ public class ReservationService {
      * - 성수기 주말: 70% 추가
      */
     public int calculateReservationPrice(LocalDate startDate, LocalDate endDate, String siteNumber) {
-        // 사이트 종류에 따른 기본 가격
-        int basePrice = 0;
-        if (siteNumber.startsWith("A")) {
-            // 대형 사이트
-            basePrice = 80000;
-        } else if (siteNumber.startsWith("B")) {
-            // 소형 사이트
-            basePrice = 50000;
-        } else {
-            // 기타
-            basePrice = 60000;
-        }
-
-        int totalPrice = 0;
-        LocalDate current = startDate;
-
-        // 날짜별로 가격 계산
-        while (!current.isAfter(endDate)) {
-            int dailyPrice = basePrice;
-
-            // 주말 확인
-            boolean isWeekend = DateUtils.isWeekend(current);
-            // 성수기 확인
-            boolean isPeakSeason = DateUtils.isPeakSeason(current);
-
-            // 할증 적용
-            if (isWeekend && isPeakSeason) {
-                // 성수기 주말: 70% 할증
-                dailyPrice = (int) (basePrice * 1.7);
-            } else if (isPeakSeason) {
-                // 성수기: 50% 할증
-                dailyPrice = (int) (basePrice * 1.5);
-            } else if (isWeekend) {
-                // 주말: 30% 할증
-                dailyPrice = (int) (basePrice * 1.3);
-            }
-
-            totalPrice += dailyPrice;
-            current = current.plusDays(1);
-        }
-
-        return totalPrice;
+        return PriceCalculator.calculateTotalPrice(siteNumber, startDate, endDate);
     }
 
     /**
@@ -937,15 +1055,7 @@ public class ReservationService {
      */
     public int calculatePoints(LocalDate startDate, LocalDate endDate, int totalPrice) {
         // 주말 예약인지 확인
-        boolean hasWeekend = false;
-        LocalDate current = startDate;
-        while (!current.isAfter(endDate)) {
-            if (DateUtils.isWeekend(current)) {
-                hasWeekend = true;
-                break;
-            }
-            current = current.plusDays(1);
-        }
+        boolean hasWeekend = DateUtils.hasWeekend(startDate, endDate);
 
         // 성수기 예약인지 확인
         boolean isPeakSeason = DateUtils.isPeakSeason(startDate);
@@ -1037,7 +1147,7 @@ public class ReservationService {
     public boolean checkAvailability(String siteNumber, LocalDate date) {
         // 사이트 조회
         Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.SITE_NOT_FOUND));
 
         // 해당 날짜에 예약이 있는지 확인
         boolean hasReservation = reservationRepository.existsByCampsiteAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
@@ -1061,18 +1171,10 @@ public class ReservationService {
 
         // 사이트 조회
         Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
-
-        // 기간 내 모든 날짜를 확인
-        LocalDate current = startDate;
-        while (!current.isAfter(endDate)) {
-            boolean available = checkAvailability(siteNumber, current);
-            if (!available) {
-                return false;
-            }
-            current = current.plusDays(1);
-        }
+                .orElseThrow(() -> new CampingException(ErrorCode.SITE_NOT_FOUND));
 
-        return true;
+        // 기간과 겹치는 예약이 하나라도 있으면 불가 (날짜별로 나눠 조회하지 않음)
+        return !reservationRepository.existsByCampsiteAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                campsite, endDate, startDate);
     }
 }
\ No newline at end of file
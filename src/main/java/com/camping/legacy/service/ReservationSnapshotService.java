@@ -0,0 +1,332 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.analytics.ColumnarReservationFile;
+import com.camping.legacy.analytics.MonthlyTotals;
+import com.camping.legacy.analytics.ReservationStatusCode;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.util.PriceCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 분석/리포트용 예약 컬럼 스냅샷
+ *
+ * - 시작 시와 매일 새벽에 reservations + reservations_archive 전체를 JDBC로 읽어 컬럼 파일을 새로 만든다
+ * - 그 사이에는 예약 변경 이벤트로 바뀐 id만 모아 주기적으로 해당 행을 덮어쓰거나 추가한다
+ *   (결제 확정처럼 이벤트가 없는 상태 변경은 다음 전체 재생성 때 반영된다)
+ * - 리포트는 읽기 잠금을 잡고 기본형 루프로 훑는다 (Hibernate 엔티티를 거치지 않음)
+ * - 변경 id와 재생성 요청에는 순번을 붙여, 파일에 실제로 반영된 뒤에만 지운다
+ *   (반영 도중에 hasPendingChanges()가 false가 되어 이전 결과가 캐시되지 않도록)
+ */
+@Slf4j
+@Service
+public class ReservationSnapshotService {
+
+    private static final int MIN_CAPACITY = 1024;
+    private static final int REFRESH_CHUNK = 500;
+    private static final String SELECT_RESERVATIONS =
+            "SELECT r.id, r.start_date, r.end_date, r.campsite_id, r.status, c.site_number " +
+            "FROM reservations r JOIN campsites c ON c.id = r.campsite_id";
+    private static final String SELECT_ARCHIVE =
+            "SELECT a.id, a.start_date, a.end_date, a.campsite_id, a.status, c.site_number " +
+            "FROM reservations_archive a JOIN campsites c ON c.id = a.campsite_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Path directory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ColumnarReservationFile file;
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private final AtomicInteger fileSequence = new AtomicInteger();
+
+    // 예약 id -> 마지막 변경 순번
+    private final Map<Long, Long> dirtyIds = new ConcurrentHashMap<>();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final AtomicLong rebuildRequested = new AtomicLong();
+    private volatile long rebuiltUpTo;
+
+    public ReservationSnapshotService(JdbcTemplate jdbcTemplate,
+                                      @Value("${camping.snapshot.enabled:true}") boolean enabled,
+                                      @Value("${camping.snapshot.directory:${java.io.tmpdir}/camping-snapshot}") String directory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return file != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 스냅샷에 반영되지 않은 변경이 있는지 (결과를 캐시하려는 쪽에서 확인)
+     */
+    public boolean hasPendingChanges() {
+        return !dirtyIds.isEmpty() || rebuildRequested.get() > rebuiltUpTo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${camping.snapshot.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.getReservationId() == null) {
+            rebuildRequested.incrementAndGet(); // 묶음 가져오기 등 개별 id가 없는 변경
+        } else {
+            dirtyIds.put(event.getReservationId(), changeSequence.incrementAndGet());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${camping.snapshot.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        if (!enabled || !isReady()) {
+            return;
+        }
+        if (rebuildRequested.get() > rebuiltUpTo) {
+            rebuild();
+            return;
+        }
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> pending = new HashMap<>(dirtyIds);
+        List<Long> ids = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK, ids.size()));
+            String in = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            List<Object[]> rows = jdbcTemplate.query(
+                    SELECT_RESERVATIONS + " WHERE r.id IN (" + in + ")",
+                    (rs, rowNum) -> toRow(rs), chunk.toArray());
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    upsert(row);
+                }
+                file.force();
+            } catch (IOException e) {
+                rebuildRequested.incrementAndGet();
+                log.warn("스냅샷 증분 반영 실패, 다음 주기에 재생성: {}", e.getMessage());
+                return;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // 반영하는 동안 다시 바뀐 id는 순번이 달라 남는다
+            for (Long id : chunk) {
+                dirtyIds.remove(id, pending.get(id));
+            }
+        }
+    }
+
+    /**
+     * 전체 재생성 (새 세대 파일에 쓰고 완료되면 교체)
+     */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            Long count = jdbcTemplate.queryForObject(
+                    "SELECT (SELECT COUNT(*) FROM reservations) + (SELECT COUNT(*) FROM reservations_archive)", Long.class);
+            int capacity = (int) Math.max(MIN_CAPACITY, (count != null ? count : 0) * 2);
+
+            ColumnarReservationFile[] building = {ColumnarReservationFile.create(nextPath(), capacity)};
+            Map<Long, Integer> rows = new HashMap<>();
+            // 지금부터 읽는 데이터에 이미 포함되므로 교체가 끝나면 지운다
+            long requested = rebuildRequested.get();
+            Map<Long, Long> covered = new HashMap<>(dirtyIds);
+
+            jdbcTemplate.query(SELECT_RESERVATIONS + " UNION ALL " + SELECT_ARCHIVE, rs -> {
+                Object[] row = toRow(rs);
+                try {
+                    rows.put((Long) row[0], appendGrowing(building, row));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            building[0].force();
+
+            lock.writeLock().lock();
+            try {
+                ColumnarReservationFile previous = file;
+                file = building[0];
+                rowById.clear();
+                rowById.putAll(rows);
+                if (previous != null) {
+                    Files.deleteIfExists(previous.getPath());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuiltUpTo = requested;
+            covered.forEach(dirtyIds::remove);
+            log.info("예약 스냅샷 생성: {}행, {}ms", rows.size(), System.currentTimeMillis() - started);
+        } catch (IOException e) {
+            throw new UncheckedIOException("예약 스냅샷 생성 실패", e);
+        }
+    }
+
+    /**
+     * 읽기 잠금 안에서 컬럼 파일을 훑는다
+     */
+    public <R> R scan(Function<ColumnarReservationFile, R> reader) {
+        lock.readLock().lock();
+        try {
+            if (file == null) {
+                throw new IllegalStateException("예약 스냅샷이 아직 준비되지 않았습니다.");
+            }
+            return reader.apply(file);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시작일이 기간 안에 있는 예약 건수/매출/숙박일 합계 (상태 무관, 기존 월간 리포트 기준과 동일)
+     */
+    public MonthlyTotals monthlyTotals(LocalDate startDate, LocalDate endDate) {
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+        return scan(snapshot -> {
+            int count = 0;
+            long revenue = 0;
+            long stayDays = 0;
+            int rows = snapshot.rowCount();
+            for (int row = 0; row < rows; row++) {
+                int start = snapshot.start(row);
+                if (start >= from && start <= to) {
+                    count++;
+                    revenue += snapshot.price(row);
+                    stayDays += snapshot.end(row) - start;
+                }
+            }
+            return new MonthlyTotals(count, revenue, stayDays);
+        });
+    }
+
+    public double cancellationRate() {
+        return scan(snapshot -> {
+            int rows = snapshot.rowCount();
+            if (rows == 0) {
+                return 0.0;
+            }
+            int cancelled = 0;
+            for (int row = 0; row < rows; row++) {
+                if (ReservationStatusCode.isCancelled(snapshot.status(row))) {
+                    cancelled++;
+                }
+            }
+            return (double) cancelled / rows;
+        });
+    }
+
+    /**
+     * 기간 내 점유된 사이트-박 수 (취소/결제 실패 제외)
+     */
+    public long occupiedNights(LocalDate startDate, LocalDate endDate) {
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+        return scan(snapshot -> {
+            long nights = 0;
+            int rows = snapshot.rowCount();
+            for (int row = 0; row < rows; row++) {
+                if (!ReservationStatusCode.isActive(snapshot.status(row))) {
+                    continue;
+                }
+                int start = Math.max(from, snapshot.start(row));
+                int end = Math.min(to, snapshot.end(row));
+                if (start <= end) {
+                    nights += end - start + 1;
+                }
+            }
+            return nights;
+        });
+    }
+
+    private void upsert(Object[] row) throws IOException {
+        Integer index = rowById.get((Long) row[0]);
+        if (index != null) {
+            file.set(index, (Long) row[0], (Integer) row[1], (Integer) row[2], (Integer) row[3], (Byte) row[4], (Integer) row[5]);
+            return;
+        }
+        ColumnarReservationFile[] current = {file};
+        rowById.put((Long) row[0], appendGrowing(current, row));
+        file = current[0];
+    }
+
+    private int appendGrowing(ColumnarReservationFile[] target, Object[] row) throws IOException {
+        int index = append(target[0], row);
+        if (index < 0) {
+            // 용량 초과 시 두 배 크기의 새 파일로 옮긴다 (기존 매핑은 GC 때 해제, 파일은 바로 삭제)
+            ColumnarReservationFile full = target[0];
+            target[0] = full.grow(nextPath(), full.capacity() * 2);
+            Files.deleteIfExists(full.getPath());
+            index = append(target[0], row);
+        }
+        return index;
+    }
+
+    private Path nextPath() {
+        return directory.resolve("reservations-" + fileSequence.incrementAndGet() + ".col");
+    }
+
+    private int append(ColumnarReservationFile target, Object[] row) {
+        return target.append((Long) row[0], (Integer) row[1], (Integer) row[2], (Integer) row[3], (Byte) row[4], (Integer) row[5]);
+    }
+
+    private Object[] toRow(ResultSet rs) throws SQLException {
+        LocalDate start = rs.getObject(2, LocalDate.class);
+        LocalDate end = rs.getObject(3, LocalDate.class);
+        String siteNumber = rs.getString(6);
+        return new Object[]{
+                rs.getLong(1),
+                (int) start.toEpochDay(),
+                (int) end.toEpochDay(),
+                (int) rs.getLong(4),
+                ReservationStatusCode.of(rs.getString(5)),
+                PriceCalculator.calculateTotalPrice(siteNumber, start, end)
+        };
+    }
+}
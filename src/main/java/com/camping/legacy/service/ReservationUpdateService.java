@@ -0,0 +1,55 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 예약 수정 (낙관적 잠금 충돌 시 재시도)
+ *
+ * ReservationService.updateReservation은 잠금 없이 실행하고, 커밋할 때 예약/사이트 버전으로 동시 변경을 감지한다.
+ * 버전 충돌은 트랜잭션이 끝난 뒤에 드러나므로 트랜잭션 밖인 여기서 새 트랜잭션으로 다시 실행한다.
+ * 재시도마다 예약을 다시 읽고 중복을 다시 확인하므로, 그사이 기간이 채워졌다면 409 예약 충돌로 끝난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationUpdateService {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long MAX_BACKOFF_MILLIS = 20;
+
+    private final ReservationService reservationService;
+
+    public ReservationResponse updateReservation(Long id, ReservationRequest request, String confirmationCode) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return reservationService.updateReservation(id, request, confirmationCode);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.warn("예약 수정 충돌 재시도 초과: 예약 ID={}", id);
+                    throw new CampingException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                log.debug("예약 수정 충돌, 재시도 {}/{}: 예약 ID={}", attempt, MAX_ATTEMPTS, id);
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 같은 사이트를 노리는 요청들이 같은 순간에 다시 부딪히지 않도록 약간씩 어긋나게 한다
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, MAX_BACKOFF_MILLIS * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CampingException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+}
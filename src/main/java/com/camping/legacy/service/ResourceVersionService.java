@@ -0,0 +1,105 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.event.ReservationChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 조회 API의 ETag 발급 (조건부 GET)
+ *
+ * - 예약이 변경될 때마다 사이트별 / 사이트-월별 / 월별 가용성 버전을 올린다
+ *   (한 사이트, 한 달의 변경이 다른 사이트 캘린더나 다른 달 가용성 조회의 ETag를 무효화하지 않는다)
+ * - ETag는 "부팅ID-범위-버전" 형식이라 If-None-Match 비교에 쿼리가 필요 없다
+ * - 버전은 메모리에만 있으므로 재시작하면 부팅ID가 바뀌어 기존 ETag가 모두 무효가 된다
+ * - 커밋 이후에 올린다 (커밋 전에 올리면 이전 데이터가 새 ETag로 캐시될 수 있음)
+ */
+@Service
+public class ResourceVersionService {
+
+    private final String bootId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final Map<YearMonth, AtomicLong> availabilityVersions = new ConcurrentHashMap<>();
+    // 기간을 알 수 없는 변경은 모든 월의 가용성 ETag를 무효화한다
+    private final AtomicLong availabilityGeneration = new AtomicLong();
+    private final Map<Long, AtomicLong> siteVersions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> siteMonthVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 사이트 목록 (사이트 정보만 포함하고 예약 상태는 없음)
+     */
+    public String sitesETag() {
+        return eTag("sites", 0);
+    }
+
+    public String siteETag(Long siteId) {
+        return eTag("site" + siteId, version(siteVersions, siteId));
+    }
+
+    /**
+     * 날짜별 가용 사이트 (모든 사이트의 예약과 홀드에 영향을 받으므로 사이트 대신 월 단위로 나눈다)
+     */
+    public String availabilityETag(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        return eTag("available" + month + "." + availabilityGeneration.get(), version(availabilityVersions, month));
+    }
+
+    public String calendarETag(Long siteId, YearMonth month) {
+        String key = siteMonthKey(siteId, month);
+        return eTag("calendar" + key, version(siteMonthVersions, key));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        LocalDate startDate = event.getStartDate();
+        LocalDate endDate = event.getEndDate();
+        boolean hasPeriod = startDate != null && endDate != null;
+        if (hasPeriod) {
+            incrementMonths(availabilityVersions, startDate, endDate, month -> month);
+        } else {
+            availabilityGeneration.incrementAndGet();
+        }
+        if (event.getSiteId() == null) {
+            return;
+        }
+        siteVersions.computeIfAbsent(event.getSiteId(), id -> new AtomicLong()).incrementAndGet();
+        if (hasPeriod) {
+            incrementMonths(siteMonthVersions, startDate, endDate, month -> siteMonthKey(event.getSiteId(), month));
+        }
+    }
+
+    /**
+     * 홀드 생성/해제/만료 (예약 테이블은 그대로지만 해당 기간의 가용성 응답이 바뀜)
+     */
+    public void onHoldChanged(LocalDate startDate, LocalDate endDate) {
+        incrementMonths(availabilityVersions, startDate, endDate, month -> month);
+    }
+
+    private <K> void incrementMonths(Map<K, AtomicLong> versions, LocalDate startDate, LocalDate endDate,
+                                     Function<YearMonth, K> keyOf) {
+        YearMonth last = YearMonth.from(endDate);
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(last); month = month.plusMonths(1)) {
+            versions.computeIfAbsent(keyOf.apply(month), key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private <K> long version(Map<K, AtomicLong> versions, K key) {
+        AtomicLong version = versions.get(key);
+        return version != null ? version.get() : 0;
+    }
+
+    private String siteMonthKey(Long siteId, YearMonth month) {
+        return siteId + ":" + month;
+    }
+
+    private String eTag(String scope, long version) {
+        return "\"" + bootId + "-" + scope + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,162 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.datasource.ReplicaSyncService;
+import com.camping.legacy.domain.Campsite;
+import com.camping.legacy.domain.Reservation;
+import com.camping.legacy.domain.SiteClosure;
+import com.camping.legacy.dto.SiteClosureRequest;
+import com.camping.legacy.dto.SiteClosureResponse;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.event.SitesClosedEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.repository.SiteClosureRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사이트 일괄 폐쇄 (기상 악화 등)
+ *
+ * - 폐쇄할 사이트를 id 순서로 쓰기 잠금하고 버전을 올려, 그 사이 같은 사이트에 들어오는 예약/수정이 커밋되지 못하게 한다
+ * - 폐쇄 기간은 site_closures에 남겨, 이후 그 기간과 겹치는 예약/수정/단체 예약/가져오기/홀드는 409 SITE_CLOSED로 거부하고
+ *   가용성 조회에서도 빠진다 (폐쇄한 사이트는 다시 예약할 수 없다)
+ * - 기간과 겹치는 유효 예약을 한 번 조회한 뒤 벌크 UPDATE로 취소한다 (예약별 조회/저장 없음)
+ * - 가용성 캐시는 사이트마다 CLOSED 이벤트 한 건으로, 취소 알림/포인트 적립 취소는 SitesClosedEvent 한 건으로 커밋 이후 처리한다
+ * - 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 복제본은 테이블 단위로 다시 맞춘다
+ */
+@Slf4j
+@Service
+public class SiteClosureService {
+
+    private static final int UPDATE_BATCH_SIZE = 1000;
+
+    private final CampsiteRepository campsiteRepository;
+    private final ReservationRepository reservationRepository;
+    private final SiteClosureRepository siteClosureRepository;
+    private final ReservationService reservationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ReplicaSyncService> replicaSyncService;
+
+    public SiteClosureService(CampsiteRepository campsiteRepository,
+                              ReservationRepository reservationRepository,
+                              SiteClosureRepository siteClosureRepository,
+                              ReservationService reservationService,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              ObjectProvider<ReplicaSyncService> replicaSyncService) {
+        this.campsiteRepository = campsiteRepository;
+        this.reservationRepository = reservationRepository;
+        this.siteClosureRepository = siteClosureRepository;
+        this.reservationService = reservationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.replicaSyncService = replicaSyncService;
+    }
+
+    public SiteClosureResponse closeSites(SiteClosureRequest request) {
+        Set<String> siteNumbers = validate(request);
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        long started = System.nanoTime();
+
+        List<Long> cancelledIds = transactionTemplate.execute(status -> {
+            // 1. 사이트 잠금 (id 순서, 단체 예약과 같은 순서라 교착 상태 없음)
+            List<Campsite> campsites = campsiteRepository.findAllBySiteNumberForUpdate(siteNumbers);
+            if (campsites.size() != siteNumbers.size()) {
+                Set<String> found = campsites.stream().map(Campsite::getSiteNumber).collect(Collectors.toSet());
+                List<String> missing = siteNumbers.stream().filter(s -> !found.contains(s)).collect(Collectors.toList());
+                throw new CampingException(ErrorCode.CAMPSITE_NOT_FOUND, "존재하지 않는 캠핑장입니다: " + String.join(", ", missing));
+            }
+
+            // 2. 폐쇄 기간 기록 (잠금을 쥔 채 기록하므로 이후 예약은 잠금을 얻은 뒤 폐쇄 기간을 보게 된다)
+            List<SiteClosure> closures = new ArrayList<>(campsites.size());
+            for (Campsite campsite : campsites) {
+                closures.add(new SiteClosure(campsite, startDate, endDate, request.getReason()));
+            }
+            siteClosureRepository.saveAll(closures);
+
+            // 3. 대상 예약 조회 후 벌크 취소
+            List<Long> ids = reservationRepository.findActiveIds(campsites, startDate, endDate);
+            LocalDate today = LocalDate.now();
+            for (int from = 0; from < ids.size(); from += UPDATE_BATCH_SIZE) {
+                reservationRepository.cancelAllByIdIn(ids.subList(from, Math.min(from + UPDATE_BATCH_SIZE, ids.size())), today);
+            }
+
+            // 4. 캐시 무효화는 사이트 단위로 한 번씩, 예약별 후처리는 한 묶음으로
+            for (Campsite campsite : campsites) {
+                eventPublisher.publishEvent(new ReservationChangedEvent(ReservationChangedEvent.ChangeType.CLOSED,
+                        null, campsite.getId(), campsite.getSiteNumber(), startDate, endDate));
+            }
+            if (!ids.isEmpty()) {
+                eventPublisher.publishEvent(new SitesClosedEvent(ids, request.getReason()));
+            }
+            return ids;
+        });
+
+        if (!cancelledIds.isEmpty()) {
+            replicaSyncService.ifAvailable(service -> service.resyncTable("reservations"));
+        }
+        log.info("사이트 폐쇄 완료: {} {} ~ {}, 취소 {}건 ({}ms), 사유={}", siteNumbers, startDate, endDate,
+                cancelledIds.size(), (System.nanoTime() - started) / 1_000_000, request.getReason());
+        return new SiteClosureResponse(new ArrayList<>(siteNumbers), startDate, endDate,
+                cancelledIds.size(), cancelledIds);
+    }
+
+    /**
+     * 취소 알림 일괄 발송 (커밋 이후 이벤트 스레드에서)
+     */
+    @Async("eventExecutor")
+    @TransactionalEventListener
+    public void onSitesClosed(SitesClosedEvent event) {
+        List<Long> ids = event.getReservationIds();
+        for (int from = 0; from < ids.size(); from += UPDATE_BATCH_SIZE) {
+            List<Reservation> reservations = reservationRepository.findAllWithCampsiteByIdIn(
+                    ids.subList(from, Math.min(from + UPDATE_BATCH_SIZE, ids.size())));
+            for (Reservation reservation : reservations) {
+                reservationService.sendCancellationNotification(reservation);
+            }
+        }
+        log.info("사이트 폐쇄 취소 알림 {}건 발송, 사유={}", ids.size(), event.getReason());
+    }
+
+    private Set<String> validate(SiteClosureRequest request) {
+        if (request.getSiteNumbers() == null || request.getSiteNumbers().isEmpty()) {
+            throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED, "폐쇄할 사이트를 선택해주세요.");
+        }
+        Set<String> siteNumbers = new LinkedHashSet<>();
+        for (String siteNumber : request.getSiteNumbers()) {
+            if (siteNumber == null || siteNumber.trim().isEmpty()) {
+                throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED);
+            }
+            siteNumbers.add(siteNumber);
+        }
+
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (startDate == null || endDate == null) {
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED);
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE);
+        }
+        if (endDate.isBefore(LocalDate.now())) {
+            throw new CampingException(ErrorCode.PAST_DATE, "이미 지난 기간은 폐쇄할 수 없습니다.");
+        }
+        return siteNumbers;
+    }
+}
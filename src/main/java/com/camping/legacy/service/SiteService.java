@@ -4,8 +4,13 @@ import com.camping.legacy.domain.Campsite;
 import com.camping.legacy.dto.SiteAvailabilityResponse;
 import com.camping.legacy.dto.SiteResponse;
 import com.camping.legacy.dto.SiteSearchRequest;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.monitoring.SiteSearchEvent;
 import com.camping.legacy.repository.CampsiteRepository;
 import com.camping.legacy.repository.ReservationRepository;
+import com.camping.legacy.repository.SiteClosureRepository;
+import com.camping.legacy.util.DateUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +28,8 @@ public class SiteService {
     
     private final CampsiteRepository campsiteRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationHoldService reservationHoldService;
+    private final SiteClosureRepository siteClosureRepository;
     
     public List<SiteResponse> getAllSites() {
         return campsiteRepository.findAll().stream()
@@ -31,16 +39,43 @@ public class SiteService {
     
     public SiteResponse getSiteById(Long siteId) {
         Campsite campsite = campsiteRepository.findById(siteId)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다."));
+                .orElseThrow(() -> new CampingException(ErrorCode.SITE_NOT_FOUND));
         return SiteResponse.from(campsite);
     }
     
+    /**
+     * 조건부 GET에서 ETag를 비교하기 전에 사이트가 있는지 확인한다 (없는 사이트가 304를 받지 않도록)
+     */
+    public void requireSite(Long siteId) {
+        if (!campsiteRepository.existsById(siteId)) {
+            throw new CampingException(ErrorCode.SITE_NOT_FOUND);
+        }
+    }
+    
     public List<SiteAvailabilityResponse> getAvailableSites(LocalDate date) {
+        SiteSearchEvent event = new SiteSearchEvent("available");
+        event.begin();
+        event.stayDays = 1;
+        event.outcome = "REJECTED";
+        try {
+            List<SiteAvailabilityResponse> result = findAvailableSites(date);
+            event.resultCount = result.size();
+            event.outcome = "SUCCESS";
+            return result;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private List<SiteAvailabilityResponse> findAvailableSites(LocalDate date) {
         List<Campsite> allSites = campsiteRepository.findAll();
+        Set<Long> closedSiteIds = siteClosureRepository.findClosedSiteIds(date, date);
         List<SiteAvailabilityResponse> responses = new ArrayList<>();
         
         for (Campsite site : allSites) {
-            boolean isAvailable = !reservationRepository.existsByCampsiteAndReservationDate(site, date);
+            boolean isAvailable = !closedSiteIds.contains(site.getId())
+                    && !reservationRepository.existsByCampsiteAndReservationDate(site, date)
+                    && !reservationHoldService.isHeld(site.getSiteNumber(), date, date);
             
             responses.add(SiteAvailabilityResponse.builder()
                     .siteId(site.getId())
@@ -60,28 +95,51 @@ public class SiteService {
     }
     
     public List<SiteAvailabilityResponse> searchAvailableSites(SiteSearchRequest request) {
+        SiteSearchEvent event = new SiteSearchEvent("search");
+        event.begin();
+        event.outcome = "REJECTED";
+        if (request.getStartDate() != null && request.getEndDate() != null) {
+            event.stayDays = (int) DateUtils.getDaysBetween(request.getStartDate(), request.getEndDate()) + 1;
+        }
+        try {
+            List<SiteAvailabilityResponse> result = doSearchAvailableSites(request);
+            event.resultCount = result.size();
+            event.outcome = "SUCCESS";
+            return result;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private List<SiteAvailabilityResponse> doSearchAvailableSites(SiteSearchRequest request) {
         // 날짜 유효성 검증 (중복 코드 - ReservationService와 동일)
         LocalDate startDate = request.getStartDate();
         LocalDate endDate = request.getEndDate();
 
         if (startDate == null || endDate == null) {
-            throw new RuntimeException("검색 기간을 선택해주세요.");
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED, "검색 기간을 선택해주세요.");
         }
 
         if (endDate.isBefore(startDate)) {
-            throw new RuntimeException("종료일이 시작일보다 이전일 수 없습니다.");
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE);
         }
 
         // 과거 날짜 체크
         LocalDate today = LocalDate.now();
         if (startDate.isBefore(today)) {
-            throw new RuntimeException("과거 날짜는 검색할 수 없습니다.");
+            throw new CampingException(ErrorCode.PAST_DATE, "과거 날짜는 검색할 수 없습니다.");
         }
 
         List<Campsite> allSites = campsiteRepository.findAll();
+        Set<Long> closedSiteIds = siteClosureRepository.findClosedSiteIds(startDate, endDate);
         List<SiteAvailabilityResponse> availableSites = new ArrayList<>();
 
         for (Campsite site : allSites) {
+            // 폐쇄 기간과 겹치는 사이트 제외
+            if (closedSiteIds.contains(site.getId())) {
+                continue;
+            }
+
             // 크기 필터링 (하드코딩)
             if (request.getSize() != null) {
                 String siteSize = "";
@@ -103,7 +161,9 @@ public class SiteService {
             boolean endAvailable = !reservationRepository.existsByCampsiteAndReservationDate(
                     site, request.getEndDate());
 
-            if (startAvailable && endAvailable) {
+            boolean held = reservationHoldService.isHeld(site.getSiteNumber(), startDate, endDate);
+
+            if (startAvailable && endAvailable && !held) {
                 // 사이트 크기 결정 (중복된 로직)
                 String size = "";
                 if (site.getSiteNumber().startsWith("A")) {
@@ -137,26 +197,44 @@ public class SiteService {
     }
     
     public boolean isAvailable(String siteNumber, LocalDate date) {
+        SiteSearchEvent event = new SiteSearchEvent("isAvailable");
+        event.begin();
+        event.siteNumber = siteNumber;
+        event.stayDays = 1;
+        event.outcome = "REJECTED";
+        try {
+            boolean available = checkSiteAvailable(siteNumber, date);
+            event.resultCount = available ? 1 : 0;
+            event.outcome = "SUCCESS";
+            return available;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private boolean checkSiteAvailable(String siteNumber, LocalDate date) {
         // 사이트 번호 검증 (중복 코드)
         if (siteNumber == null || siteNumber.trim().isEmpty()) {
-            throw new RuntimeException("사이트 번호를 입력해주세요.");
+            throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED);
         }
 
         // 날짜 검증 (중복 코드)
         if (date == null) {
-            throw new RuntimeException("날짜를 선택해주세요.");
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED, "날짜를 선택해주세요.");
         }
 
         // 과거 날짜 체크
         LocalDate today = LocalDate.now();
         if (date.isBefore(today)) {
-            throw new RuntimeException("과거 날짜는 조회할 수 없습니다.");
+            throw new CampingException(ErrorCode.PAST_DATE, "과거 날짜는 조회할 수 없습니다.");
         }
 
         Campsite campsite = campsiteRepository.findBySiteNumber(siteNumber)
-                .orElseThrow(() -> new RuntimeException("사이트를 찾을 수 없습니다: " + siteNumber));
+                .orElseThrow(() -> new CampingException(ErrorCode.SITE_NOT_FOUND, "사이트를 찾을 수 없습니다: " + siteNumber));
 
-        return !reservationRepository.existsByCampsiteAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                campsite, date, date);
+        return !siteClosureRepository.existsOverlapping(campsite, date, date)
+                && !reservationRepository.existsByCampsiteAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                campsite, date, date)
+                && !reservationHoldService.isHeld(siteNumber, date, date);
     }
 }
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.WaitingTicketResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 오픈 시점 대기열 (virtual waiting room)
+ *
+ * 성수기 예약 오픈 직후 같은 사이트에 몰리는 요청을 사이트별 FIFO 대기열로 받는다.
+ * - 사이트별로 한 번에 하나의 요청만 DB에 들어간다 (워커 풀 크기만큼 사이트 병렬 처리)
+ * - 사이트가 예약되면 겹치는 대기 요청은 SQL 없이 메모리에서 즉시 거절한다
+ * - 클라이언트는 티켓 ID로 순번과 결과를 조회(polling)한다
+ */
+@Slf4j
+@Service
+public class WaitingRoomService {
+
+    private static final long FINISHED_TICKET_RETENTION_MILLIS = 10 * 60 * 1000;
+
+    private final ReservationService reservationService;
+    private final Executor waitingRoomExecutor;
+    private final int maxQueueSize;
+
+    private final Map<String, SiteQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    public WaitingRoomService(ReservationService reservationService,
+                              @Qualifier("waitingRoomExecutor") Executor waitingRoomExecutor,
+                              @Value("${camping.waiting-room.max-queue-size:1000}") int maxQueueSize) {
+        this.reservationService = reservationService;
+        this.waitingRoomExecutor = waitingRoomExecutor;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * 예약 요청을 사이트 대기열에 넣고 티켓을 발급한다.
+     */
+    public WaitingTicketResponse enqueue(ReservationRequest request) {
+        String siteNumber = request.getSiteNumber();
+        if (siteNumber == null || siteNumber.trim().isEmpty()) {
+            throw new CampingException(ErrorCode.SITE_NUMBER_REQUIRED);
+        }
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED);
+        }
+
+        Ticket ticket;
+        SiteQueue queue;
+        while (true) {
+            queue = queues.computeIfAbsent(siteNumber, SiteQueue::new);
+            synchronized (queue) {
+                if (queue.closed) {
+                    continue; // 방금 비워져 제거된 대기열이면 새로 만든다
+                }
+                if (queue.size.get() >= maxQueueSize) {
+                    throw new CampingException(ErrorCode.WAITING_ROOM_FULL);
+                }
+                ticket = new Ticket(UUID.randomUUID().toString(), queue.issuedSeq.incrementAndGet(), request);
+                if (queue.isTaken(request.getStartDate(), request.getEndDate())) {
+                    ticket.reject("해당 기간에 이미 예약이 존재합니다.");
+                } else {
+                    queue.pending.add(ticket);
+                    queue.size.incrementAndGet();
+                }
+                break;
+            }
+        }
+        tickets.put(ticket.id, ticket);
+        scheduleDrain(queue);
+        return toResponse(ticket);
+    }
+
+    public WaitingTicketResponse getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new CampingException(ErrorCode.WAITING_TICKET_NOT_FOUND);
+        }
+        return toResponse(ticket);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedTickets() {
+        long threshold = System.currentTimeMillis() - FINISHED_TICKET_RETENTION_MILLIS;
+        tickets.values().removeIf(ticket -> ticket.finishedAt > 0 && ticket.finishedAt < threshold);
+    }
+
+    private void scheduleDrain(SiteQueue queue) {
+        if (queue.draining.compareAndSet(false, true)) {
+            waitingRoomExecutor.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(SiteQueue queue) {
+        try {
+            Ticket ticket;
+            while ((ticket = queue.pending.poll()) != null) {
+                queue.size.decrementAndGet();
+                queue.servedSeq = ticket.seq;
+                if (ticket.status == TicketStatus.WAITING) {
+                    process(queue, ticket);
+                }
+            }
+        } finally {
+            queue.draining.set(false);
+        }
+
+        synchronized (queue) {
+            if (!queue.pending.isEmpty()) {
+                scheduleDrain(queue);
+            } else if (!queue.draining.get()) {
+                // 몰림이 끝난 대기열은 정리 (메모리상의 예약 범위도 함께 버린다)
+                queue.closed = true;
+                queues.remove(queue.siteNumber, queue);
+            }
+        }
+    }
+
+    private void process(SiteQueue queue, Ticket ticket) {
+        ReservationRequest request = ticket.request;
+        if (queue.isTaken(request.getStartDate(), request.getEndDate())) {
+            ticket.reject("해당 기간에 이미 예약이 존재합니다.");
+            return;
+        }
+
+        ticket.status = TicketStatus.PROCESSING;
+        try {
+            ReservationResponse reservation = reservationService.createReservation(request);
+            ticket.confirm(reservation);
+            queue.taken.add(new LocalDate[]{request.getStartDate(), request.getEndDate()});
+            rejectOverlapping(queue, request.getStartDate(), request.getEndDate());
+        } catch (RuntimeException e) {
+            ticket.reject(e.getMessage());
+        }
+    }
+
+    // 방금 예약된 기간과 겹치는 대기 요청을 즉시 거절 (폴링하는 클라이언트가 바로 결과를 받도록)
+    private void rejectOverlapping(SiteQueue queue, LocalDate startDate, LocalDate endDate) {
+        for (Ticket waiting : queue.pending) {
+            ReservationRequest request = waiting.request;
+            if (waiting.status == TicketStatus.WAITING
+                    && !request.getStartDate().isAfter(endDate) && !request.getEndDate().isBefore(startDate)) {
+                waiting.reject("해당 기간에 이미 예약이 존재합니다.");
+            }
+        }
+    }
+
+    private WaitingTicketResponse toResponse(Ticket ticket) {
+        Long position = null;
+        if (ticket.status == TicketStatus.WAITING) {
+            SiteQueue queue = queues.get(ticket.request.getSiteNumber());
+            long servedSeq = queue != null ? queue.servedSeq : 0;
+            position = Math.max(1, ticket.seq - servedSeq);
+        }
+        return WaitingTicketResponse.builder()
+                .ticketId(ticket.id)
+                .siteNumber(ticket.request.getSiteNumber())
+                .status(ticket.status.name())
+                .position(position)
+                .reservation(ticket.reservation)
+                .message(ticket.message)
+                .build();
+    }
+
+    private enum TicketStatus {
+        WAITING, PROCESSING, CONFIRMED, REJECTED
+    }
+
+    private static final class Ticket {
+        private final String id;
+        private final long seq;
+        private final ReservationRequest request;
+        private volatile TicketStatus status = TicketStatus.WAITING;
+        private volatile ReservationResponse reservation;
+        private volatile String message;
+        private volatile long finishedAt;
+
+        private Ticket(String id, long seq, ReservationRequest request) {
+            this.id = id;
+            this.seq = seq;
+            this.request = request;
+        }
+
+        private void confirm(ReservationResponse reservation) {
+            this.reservation = reservation;
+            this.message = "예약이 완료되었습니다.";
+            this.status = TicketStatus.CONFIRMED;
+            this.finishedAt = System.currentTimeMillis();
+        }
+
+        private void reject(String message) {
+            this.message = message;
+            this.status = TicketStatus.REJECTED;
+            this.finishedAt = System.currentTimeMillis();
+        }
+    }
+
+    private static final class SiteQueue {
+        private final String siteNumber;
+        private final Queue<Ticket> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicLong issuedSeq = new AtomicLong();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final List<LocalDate[]> taken = new CopyOnWriteArrayList<>();
+        private volatile long servedSeq;
+        private boolean closed;
+
+        private SiteQueue(String siteNumber) {
+            this.siteNumber = siteNumber;
+        }
+
+        private boolean isTaken(LocalDate startDate, LocalDate endDate) {
+            for (LocalDate[] range : taken) {
+                if (!range[0].isAfter(endDate) && !range[1].isBefore(startDate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
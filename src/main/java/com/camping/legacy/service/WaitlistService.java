@@ -0,0 +1,273 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.WaitlistEntry;
+import com.camping.legacy.dto.HoldResponse;
+import com.camping.legacy.dto.WaitlistRequest;
+import com.camping.legacy.dto.WaitlistResponse;
+import com.camping.legacy.event.HoldExpiredEvent;
+import com.camping.legacy.event.ReservationChangedEvent;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.repository.CampsiteRepository;
+import com.camping.legacy.repository.WaitlistEntryRepository;
+import com.camping.legacy.util.IntervalIndex;
+import com.camping.legacy.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빈자리 대기 서비스
+ *
+ * 예약이 취소되어 사이트가 비면(FREED) 해당 기간과 겹치는 대기 신청을
+ * 구간 인덱스로 찾아 신청 순서대로 홀드를 제안한다.
+ * - 인덱스 키: 사이트 번호("A-3") 또는 사이트 등급("class:A")
+ * - 대기 신청이 수만 건이어도 조회는 겹치는 구간 근처만 확인한다 (테이블 스캔 없음)
+ *   구간 인덱스의 조회 범위는 가장 긴 신청 기간만큼 넓어지므로 신청 기간은 예약과 같이 최대 30일로 제한한다
+ * - 제안한 홀드가 사용되지 않고 만료되거나 대기자가 취소하면 그 신청은 끝내고 같은 기간을 다음 대기자에게 제안한다
+ * - 구간 인덱스와 홀드는 노드 메모리에만 있고 변경 로그로 전파되지 않으므로 cluster 프로필에서는 끈다
+ *   (camping.waitlist.enabled=false: 신규 신청을 받지 않고 빈자리 제안도 하지 않는다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    private static final int MAX_OFFER_ATTEMPTS = 20;
+    // 예약 최대 기간과 같다
+    private static final int MAX_WAIT_DAYS = 30;
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final CampsiteRepository campsiteRepository;
+    private final ReservationHoldService reservationHoldService;
+
+    private final Map<String, IntervalIndex<Long>> indexes = new ConcurrentHashMap<>();
+
+    @Value("${camping.waitlist.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 기동 시 대기 중인 신청으로 인덱스를 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        if (!enabled) {
+            return;
+        }
+        List<WaitlistEntry> waiting = waitlistEntryRepository.findByStatus("WAITING");
+        for (WaitlistEntry entry : waiting) {
+            index(entry);
+        }
+        log.info("대기자 인덱스 로딩 완료: {}건", waiting.size());
+    }
+
+    @Transactional
+    public WaitlistResponse register(WaitlistRequest request) {
+        if (!enabled) {
+            throw new CampingException(ErrorCode.FEATURE_DISABLED, "다중 인스턴스 구성에서는 빈자리 대기를 지원하지 않습니다.");
+        }
+        if (request.getCustomerName() == null || request.getCustomerName().trim().isEmpty()) {
+            throw new CampingException(ErrorCode.CUSTOMER_NAME_REQUIRED);
+        }
+        if (request.getPhoneNumber() == null || request.getPhoneNumber().trim().isEmpty()) {
+            throw new CampingException(ErrorCode.PHONE_NUMBER_REQUIRED);
+        }
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            throw new CampingException(ErrorCode.PERIOD_REQUIRED);
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new CampingException(ErrorCode.END_DATE_BEFORE_START_DATE);
+        }
+        if (request.getStartDate().isBefore(LocalDate.now())) {
+            throw new CampingException(ErrorCode.PAST_DATE, "과거 날짜로 대기 신청할 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) > MAX_WAIT_DAYS) {
+            throw new CampingException(ErrorCode.PERIOD_TOO_LONG);
+        }
+
+        boolean hasSite = request.getSiteNumber() != null && !request.getSiteNumber().trim().isEmpty();
+        boolean hasClass = request.getSiteClass() != null && !request.getSiteClass().trim().isEmpty();
+        if (hasSite == hasClass) {
+            throw new CampingException(ErrorCode.INVALID_REQUEST, "사이트 번호 또는 사이트 등급(A/B) 중 하나만 선택해주세요.");
+        }
+        if (hasSite && campsiteRepository.findBySiteNumber(request.getSiteNumber()).isEmpty()) {
+            throw new CampingException(ErrorCode.CAMPSITE_NOT_FOUND);
+        }
+        if (hasClass && !request.getSiteClass().equals("A") && !request.getSiteClass().equals("B")) {
+            throw new CampingException(ErrorCode.INVALID_REQUEST, "사이트 등급은 A 또는 B만 가능합니다.");
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setCustomerName(request.getCustomerName());
+        entry.setPhoneNumber(request.getPhoneNumber());
+        entry.setSiteNumber(hasSite ? request.getSiteNumber() : null);
+        entry.setSiteClass(hasClass ? request.getSiteClass() : null);
+        entry.setStartDate(request.getStartDate());
+        entry.setEndDate(request.getEndDate());
+
+        WaitlistEntry saved = waitlistEntryRepository.save(entry);
+        index(saved);
+        return WaitlistResponse.from(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistResponse getEntry(Long id) {
+        return WaitlistResponse.from(findEntry(id));
+    }
+
+    @Transactional
+    public void cancel(Long id, String phoneNumber) {
+        WaitlistEntry entry = findEntry(id);
+        // 하이픈 유무와 무관하게 비교 (고객 식별과 같은 규칙)
+        String expected = StringUtils.normalizePhoneNumber(entry.getPhoneNumber());
+        if (phoneNumber == null || !expected.equals(StringUtils.normalizePhoneNumber(phoneNumber))) {
+            throw new CampingException(ErrorCode.PHONE_NUMBER_MISMATCH);
+        }
+        boolean offered = "OFFERED".equals(entry.getStatus());
+        unindex(entry);
+        reservationHoldService.release(entry.getHoldToken());
+        entry.setStatus("CANCELLED");
+
+        // 제안받은 기간을 포기했으므로 다음 대기자에게 넘긴다
+        if (offered) {
+            offerFreedNights(entry.getOfferedSiteNumber(), entry.getStartDate(), entry.getEndDate());
+        }
+    }
+
+    /**
+     * 예약 취소로 비워진 기간에 대해 대기자에게 홀드를 제안한다.
+     */
+    @Async("eventExecutor")
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.getChangeType() != ReservationChangedEvent.ChangeType.FREED) {
+            return;
+        }
+        offerFreedNights(event.getSiteNumber(), event.getStartDate(), event.getEndDate());
+    }
+
+    /**
+     * 대기자에게 제안한 홀드가 사용되지 않고 만료되면 그 신청은 만료 처리하고 다음 대기자에게 제안한다.
+     * (대기자에게 제안한 홀드가 아니면 아무것도 하지 않음)
+     */
+    @Async("eventExecutor")
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onHoldExpired(HoldExpiredEvent event) {
+        WaitlistEntry entry = waitlistEntryRepository.findByHoldTokenAndStatus(event.getHoldToken(), "OFFERED").orElse(null);
+        if (entry == null) {
+            return;
+        }
+        entry.setStatus("EXPIRED");
+        log.info("대기자 {} 제안 만료: {} {} ~ {}", entry.getId(), event.getSiteNumber(), event.getStartDate(), event.getEndDate());
+        offerFreedNights(event.getSiteNumber(), event.getStartDate(), event.getEndDate());
+    }
+
+    private void offerFreedNights(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        if (!enabled) {
+            return;
+        }
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+
+        List<Long> candidateIds = new ArrayList<>();
+        collect(siteNumber, start, end, candidateIds);
+        collect(classKey(siteNumber.substring(0, 1)), start, end, candidateIds);
+        if (candidateIds.isEmpty()) {
+            return;
+        }
+        // 먼저 신청한 순서 (ID 순)
+        Collections.sort(candidateIds);
+
+        LocalDate today = LocalDate.now();
+        int attempts = 0;
+        for (Long id : candidateIds) {
+            if (attempts++ >= MAX_OFFER_ATTEMPTS) {
+                break;
+            }
+            WaitlistEntry entry = waitlistEntryRepository.findById(id).orElse(null);
+            if (entry == null || !"WAITING".equals(entry.getStatus())) {
+                continue;
+            }
+            if (entry.getEndDate().isBefore(today)) {
+                entry.setStatus("EXPIRED");
+                unindex(entry);
+                continue;
+            }
+            offer(entry, siteNumber);
+        }
+    }
+
+    private void offer(WaitlistEntry entry, String siteNumber) {
+        HoldResponse hold;
+        try {
+            hold = reservationHoldService.hold(siteNumber, entry.getStartDate(), entry.getEndDate());
+        } catch (RuntimeException e) {
+            // 희망 기간 중 일부가 아직 예약/홀드 상태
+            log.debug("대기자 {} 제안 불가: {}", entry.getId(), e.getMessage());
+            return;
+        }
+
+        unindex(entry);
+        entry.setStatus("OFFERED");
+        entry.setOfferedSiteNumber(siteNumber);
+        entry.setHoldToken(hold.getHoldToken());
+        entry.setHoldExpiresAt(hold.getExpiresAt());
+
+        log.info("===========================================");
+        log.info("[빈자리 알림 SMS]");
+        log.info("수신 번호: {}", entry.getPhoneNumber());
+        log.info("내용: [그린캠핑장] {}님, {} 사이트 {} ~ {} 예약이 가능합니다. {}까지 예약을 완료해주세요.",
+                entry.getCustomerName(), siteNumber, entry.getStartDate(), entry.getEndDate(), hold.getExpiresAt());
+        log.info("===========================================");
+    }
+
+    private WaitlistEntry findEntry(Long id) {
+        return waitlistEntryRepository.findById(id)
+                .orElseThrow(() -> new CampingException(ErrorCode.WAITLIST_ENTRY_NOT_FOUND));
+    }
+
+    private void collect(String key, long start, long end, List<Long> result) {
+        IntervalIndex<Long> index = indexes.get(key);
+        if (index != null) {
+            result.addAll(index.findOverlapping(start, end));
+        }
+    }
+
+    private void index(WaitlistEntry entry) {
+        indexes.computeIfAbsent(indexKey(entry), key -> new IntervalIndex<>())
+                .add(entry.getStartDate().toEpochDay(), entry.getEndDate().toEpochDay(), entry.getId());
+    }
+
+    private void unindex(WaitlistEntry entry) {
+        IntervalIndex<Long> index = indexes.get(indexKey(entry));
+        if (index != null) {
+            index.remove(entry.getStartDate().toEpochDay(), entry.getId());
+        }
+    }
+
+    private String indexKey(WaitlistEntry entry) {
+        return entry.getSiteNumber() != null ? entry.getSiteNumber() : classKey(entry.getSiteClass());
+    }
+
+    private String classKey(String siteClass) {
+        return "class:" + siteClass;
+    }
+}
@@ -1,6 +1,5 @@
 package com.camping.legacy.util;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
@@ -30,12 +29,14 @@ public class DateUtils {
      */
     public static boolean isWeekend(LocalDate date) {
         // 토요일 또는 일요일인지 확인
-        DayOfWeek day = date.getDayOfWeek();
-        if (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY) {
-            return true;
-        } else {
-            return false;
-        }
+        return EpochDays.isWeekend(date.toEpochDay());
+    }
+
+    /**
+     * 기간(시작일~종료일 포함)에 주말이 하루라도 있는지 확인
+     */
+    public static boolean hasWeekend(LocalDate startDate, LocalDate endDate) {
+        return EpochDays.countWeekendDays(startDate.toEpochDay(), endDate.toEpochDay()) > 0;
     }
 
     /**
@@ -43,9 +44,8 @@ public class DateUtils {
      * 7월~8월은 성수기
      */
     public static boolean isPeakSeason(LocalDate date) {
-        int month = date.getMonthValue();
         // 7월과 8월은 성수기입니다
-        return month >= 7 && month <= 8;
+        return EpochDays.isPeakSeason(date.toEpochDay());
     }
 
     /**
@@ -0,0 +1,151 @@
+package com.camping.legacy.util;
+
+/**
+ * epoch day(1970-01-01 = 0) 기반 날짜 계산
+ *
+ * 가격/포인트/캘린더 계산에서 LocalDate.plusDays로 하루씩 객체를 만들며 돌던 루프를 대신한다.
+ * - 요일: 나머지 연산 (1970-01-01은 목요일)
+ * - 주말 일수: 구간 양 끝의 누적 개수 차이로 바로 계산
+ * - 성수기(7~8월) 경계: 연도별 표에서 조회 (표 범위 밖은 달력 공식으로 계산)
+ * 모든 메서드는 기본형만 다루며 객체를 만들지 않는다. 구간은 양 끝 포함이다.
+ */
+public final class EpochDays {
+
+    private static final int TABLE_FIRST_YEAR = 1970;
+    private static final int TABLE_LAST_YEAR = 2199;
+    private static final int PEAK_SEASON_START_MONTH = 7;
+    private static final int PEAK_SEASON_END_MONTH = 8;
+
+    // 연도별 성수기 시작일(7/1)과 종료일(8/31)
+    private static final long[] PEAK_START = new long[TABLE_LAST_YEAR - TABLE_FIRST_YEAR + 1];
+    private static final long[] PEAK_END = new long[TABLE_LAST_YEAR - TABLE_FIRST_YEAR + 1];
+
+    static {
+        for (int year = TABLE_FIRST_YEAR; year <= TABLE_LAST_YEAR; year++) {
+            PEAK_START[year - TABLE_FIRST_YEAR] = fromCivil(year, PEAK_SEASON_START_MONTH, 1);
+            PEAK_END[year - TABLE_FIRST_YEAR] = fromCivil(year, PEAK_SEASON_END_MONTH + 1, 1) - 1;
+        }
+    }
+
+    private EpochDays() {
+    }
+
+    /**
+     * ISO 요일 (월요일 1 ~ 일요일 7)
+     */
+    public static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    public static boolean isWeekend(long epochDay) {
+        return dayOfWeek(epochDay) >= 6;
+    }
+
+    /**
+     * 구간 내 토/일요일 수
+     */
+    public static long countWeekendDays(long startDay, long endDay) {
+        if (endDay < startDay) {
+            return 0;
+        }
+        return weekendDaysBefore(endDay + 1) - weekendDaysBefore(startDay);
+    }
+
+    /**
+     * 두 구간이 겹치는 일수
+     */
+    public static long overlapDays(long aStart, long aEnd, long bStart, long bEnd) {
+        return Math.max(0, Math.min(aEnd, bEnd) - Math.max(aStart, bStart) + 1);
+    }
+
+    public static boolean overlaps(long aStart, long aEnd, long bStart, long bEnd) {
+        return aStart <= bEnd && bStart <= aEnd;
+    }
+
+    public static int year(long epochDay) {
+        return (int) (civil(epochDay) >> 16);
+    }
+
+    public static int month(long epochDay) {
+        return (int) (civil(epochDay) >> 8) & 0xFF;
+    }
+
+    public static int dayOfMonth(long epochDay) {
+        return (int) civil(epochDay) & 0xFF;
+    }
+
+    public static boolean isPeakSeason(long epochDay) {
+        int month = month(epochDay);
+        return month >= PEAK_SEASON_START_MONTH && month <= PEAK_SEASON_END_MONTH;
+    }
+
+    public static long peakSeasonStart(int year) {
+        if (year >= TABLE_FIRST_YEAR && year <= TABLE_LAST_YEAR) {
+            return PEAK_START[year - TABLE_FIRST_YEAR];
+        }
+        return fromCivil(year, PEAK_SEASON_START_MONTH, 1);
+    }
+
+    public static long peakSeasonEnd(int year) {
+        if (year >= TABLE_FIRST_YEAR && year <= TABLE_LAST_YEAR) {
+            return PEAK_END[year - TABLE_FIRST_YEAR];
+        }
+        return fromCivil(year, PEAK_SEASON_END_MONTH + 1, 1) - 1;
+    }
+
+    /**
+     * 구간 내 성수기 일수
+     */
+    public static long countPeakSeasonDays(long startDay, long endDay) {
+        long days = 0;
+        for (int year = year(startDay), last = year(endDay); year <= last; year++) {
+            days += overlapDays(startDay, endDay, peakSeasonStart(year), peakSeasonEnd(year));
+        }
+        return days;
+    }
+
+    /**
+     * 구간 내 성수기이면서 주말인 일수
+     */
+    public static long countPeakSeasonWeekendDays(long startDay, long endDay) {
+        long days = 0;
+        for (int year = year(startDay), last = year(endDay); year <= last; year++) {
+            long from = Math.max(startDay, peakSeasonStart(year));
+            long to = Math.min(endDay, peakSeasonEnd(year));
+            days += countWeekendDays(from, to);
+        }
+        return days;
+    }
+
+    /**
+     * 연-월-일 → epoch day
+     */
+    public static long fromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    // epoch day 이전(-∞, day)까지의 주말 누적 개수 (차이만 의미 있음)
+    private static long weekendDaysBefore(long day) {
+        long shifted = day + 3; // 월요일 = 0
+        return Math.floorDiv(shifted, 7L) * 2 + Math.max(0, Math.floorMod(shifted, 7L) - 5);
+    }
+
+    // epoch day → (연 << 16 | 월 << 8 | 일)
+    private static long civil(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097L);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 16) | (month << 8) | day;
+    }
+}
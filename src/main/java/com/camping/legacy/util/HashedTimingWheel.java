@@ -0,0 +1,115 @@
+package com.camping.legacy.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 해시드 타이밍 휠 (Hashed Timing Wheel)
+ *
+ * 만료 시각을 tick 단위로 나누어 원형 슬롯에 배치한다.
+ * - 등록/취소: O(1)
+ * - advance(): 지나간 tick의 슬롯만 확인하므로 전체 스캔이 없다
+ * - 휠 한 바퀴보다 먼 만료는 같은 슬롯에 남아 있다가 해당 회차에 만료된다
+ *
+ * 만료 콜백은 내부 락을 해제한 뒤 호출된다.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<List<Timeout<T>>> slots;
+    private final Consumer<T> expiryHandler;
+    private long currentTick;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis, Consumer<T> expiryHandler) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다.");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize는 2의 거듭제곱이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.expiryHandler = expiryHandler;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 만료 시각(epoch millis)에 item을 등록한다.
+     */
+    public synchronized Timeout<T> schedule(T item, long expireAtMillis) {
+        // 이미 지난 시각이면 다음 tick에 만료
+        long deadlineTick = Math.max(ceilDiv(expireAtMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick);
+        slots.get((int) (deadlineTick & mask)).add(timeout);
+        return timeout;
+    }
+
+    /**
+     * nowMillis까지 지나간 tick들을 처리하고 만료된 항목의 콜백을 호출한다.
+     */
+    public void advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            // 오래 멈춰 있었더라도 최대 한 바퀴만 돌면 모든 슬롯을 확인한다
+            long fromTick = Math.max(currentTick + 1, targetTick - mask);
+            for (long tick = fromTick; tick <= targetTick; tick++) {
+                collectExpired(slots.get((int) (tick & mask)), targetTick, expired);
+            }
+            if (targetTick > currentTick) {
+                currentTick = targetTick;
+            }
+        }
+        for (T item : expired) {
+            expiryHandler.accept(item);
+        }
+    }
+
+    private void collectExpired(List<Timeout<T>> slot, long targetTick, List<T> expired) {
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            Timeout<T> timeout = slot.get(i);
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.deadlineTick <= targetTick) {
+                expired.add(timeout.item);
+            } else {
+                slot.set(kept++, timeout);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /**
+     * 등록 핸들. cancel()은 O(1)이며 실제 제거는 해당 슬롯을 지날 때 일어난다.
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.camping.legacy.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 닫힌 구간 [start, end] 인덱스 (epoch day 기준)
+ *
+ * 시작일로 정렬된 트리에 지금까지 등록된 최대 구간 길이를 함께 기록한다.
+ * [qs, qe]와 겹치는 구간은 시작일이 [qs - 최대길이, qe] 범위에 있어야 하므로
+ * 전체를 훑지 않고 해당 범위의 하위 트리만 확인한다.
+ * 예약 기간은 최대 30일이므로 조회 범위도 작게 유지된다.
+ */
+public class IntervalIndex<T> {
+
+    private final NavigableMap<Long, List<Interval<T>>> byStart = new TreeMap<>();
+    private long maxSpan;
+    private int size;
+
+    public synchronized void add(long start, long end, T value) {
+        if (end < start) {
+            throw new IllegalArgumentException("end는 start보다 작을 수 없습니다.");
+        }
+        byStart.computeIfAbsent(start, key -> new ArrayList<>(2)).add(new Interval<>(start, end, value));
+        maxSpan = Math.max(maxSpan, end - start);
+        size++;
+    }
+
+    public synchronized boolean remove(long start, T value) {
+        List<Interval<T>> intervals = byStart.get(start);
+        if (intervals == null) {
+            return false;
+        }
+        Iterator<Interval<T>> iterator = intervals.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().value.equals(value)) {
+                iterator.remove();
+                if (intervals.isEmpty()) {
+                    byStart.remove(start);
+                }
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * [start, end]와 겹치는 구간의 값 목록 (시작일 순)
+     */
+    public synchronized List<T> findOverlapping(long start, long end) {
+        List<T> result = new ArrayList<>();
+        for (Map.Entry<Long, List<Interval<T>>> entry
+                : byStart.subMap(start - maxSpan, true, end, true).entrySet()) {
+            for (Interval<T> interval : entry.getValue()) {
+                if (interval.end >= start) {
+                    result.add(interval.value);
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private static final class Interval<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+
+        private Interval(long start, long end, T value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.camping.legacy.util;
+
+import java.time.LocalDate;
+
+/**
+ * 숙박 가격 계산
+ * - 기본 가격: 소형(B) 50,000원, 대형(A) 80,000원, 기타 60,000원 (1박 기준)
+ * - 주말 30%, 성수기 50%, 성수기 주말 70% 할증
+ *
+ * 서비스 빈을 거치지 않고 여러 곳(추천, 리포트 등)에서 쓰기 위해 정적 메서드로 분리했다.
+ */
+public class PriceCalculator {
+
+    private PriceCalculator() {
+    }
+
+    public static int basePrice(String siteNumber) {
+        if (siteNumber.startsWith("A")) {
+            return 80000;
+        } else if (siteNumber.startsWith("B")) {
+            return 50000;
+        }
+        return 60000;
+    }
+
+    /**
+     * 시작일~종료일(포함) 총 가격
+     * 하루 요금은 (평일/주말) × (비수기/성수기) 네 가지뿐이므로 각 일수를 EpochDays로 구해 곱한다.
+     */
+    public static int calculateTotalPrice(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        return calculateTotalPrice(basePrice(siteNumber), startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    public static int calculateTotalPrice(int basePrice, long startDay, long endDay) {
+        if (endDay < startDay) {
+            return 0;
+        }
+        long nights = endDay - startDay + 1;
+        long weekend = EpochDays.countWeekendDays(startDay, endDay);
+        long peak = EpochDays.countPeakSeasonDays(startDay, endDay);
+        long peakWeekend = EpochDays.countPeakSeasonWeekendDays(startDay, endDay);
+
+        long total = (nights - weekend - peak + peakWeekend) * basePrice
+                + (weekend - peakWeekend) * (int) (basePrice * 1.3)
+                + (peak - peakWeekend) * (int) (basePrice * 1.5)
+                + peakWeekend * (int) (basePrice * 1.7);
+        return (int) total;
+    }
+
+    public static int dailyPrice(int basePrice, LocalDate date) {
+        return dailyPrice(basePrice, date.toEpochDay());
+    }
+
+    public static int dailyPrice(int basePrice, long epochDay) {
+        boolean isWeekend = EpochDays.isWeekend(epochDay);
+        boolean isPeakSeason = EpochDays.isPeakSeason(epochDay);
+        if (isWeekend && isPeakSeason) {
+            return (int) (basePrice * 1.7);
+        } else if (isPeakSeason) {
+            return (int) (basePrice * 1.5);
+        } else if (isWeekend) {
+            return (int) (basePrice * 1.3);
+        }
+        return basePrice;
+    }
+}
@@ -135,4 +135,22 @@ public class StringUtils {
         // 영문, 숫자, 한글만 남기고 제거
         return str.replaceAll("[^a-zA-Z0-9가-힣]", "");
     }
+
+    /**
+     * 전화번호 정규화 (숫자만 남김)
+     * 010-1234-5678, 01012345678, 010 1234 5678 을 같은 고객으로 보기 위한 키
+     */
+    public static String normalizePhoneNumber(String phone) {
+        if (isEmpty(phone)) {
+            return phone;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
 }
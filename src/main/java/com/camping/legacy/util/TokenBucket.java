@@ -0,0 +1,49 @@
+package com.camping.legacy.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷
+ *
+ * GCRA(Generic Cell Rate Algorithm) 방식으로 구현해 상태를 "이론적 도착 시각" long 하나로 표현한다.
+ * 토큰 수와 마지막 충전 시각을 따로 두지 않으므로 CAS 한 번으로 갱신된다.
+ * - 초당 rate개 토큰이 충전되고 최대 burst개까지 쌓인다
+ * - tryAcquire()는 허용 시 0, 거부 시 다음 토큰까지 남은 나노초를 반환한다
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(long permitsPerMinute, int burst, long nowNanos) {
+        if (permitsPerMinute <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute와 burst는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = 60_000_000_000L / permitsPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long base = Math.max(tat, nowNanos);
+            long waitNanos = base - burstToleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태(최근 사용 없음)인지 확인한다.
+     * 가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 제한 효과가 바뀌지 않는다.
+     */
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrivalNanos.get() <= nowNanos;
+    }
+}
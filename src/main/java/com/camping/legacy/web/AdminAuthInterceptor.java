@@ -0,0 +1,47 @@
+package com.camping.legacy.web;
+
+import com.camping.legacy.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 운영자 API(/api/admin/**) 인증
+ *
+ * - X-Admin-Token 헤더가 camping.admin.token과 같아야 한다 (시간 차이로 토큰을 추측하지 못하도록 고정 시간 비교)
+ * - 토큰을 설정하지 않으면 모든 운영자 API를 거부한다 (설정 누락 시 열리지 않음)
+ */
+@Slf4j
+public class AdminAuthInterceptor implements HandlerInterceptor {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private static final ErrorResponseWriter REJECTED = new ErrorResponseWriter(ErrorCode.ADMIN_AUTH_REQUIRED);
+
+    private final byte[] adminToken;
+
+    public AdminAuthInterceptor(String adminToken) {
+        this.adminToken = adminToken == null || adminToken.isBlank()
+                ? null
+                : adminToken.trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        String token = request.getHeader(ADMIN_TOKEN_HEADER);
+        if (adminToken != null && token != null
+                && MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+
+        log.warn("운영자 인증 실패: {} {} ({})", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        REJECTED.write(response);
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package com.camping.legacy.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 클라이언트 식별 키
+ * 발급된(camping.api-keys에 등록된) API 키가 헤더에 있으면 API 키, 그 외에는 접속 IP를 사용한다.
+ * 등록되지 않은 키를 그대로 쓰면 요청마다 키를 바꿔 요청 제한을 피하고 버킷 상한을 채울 수 있다.
+ */
+public final class ClientKeys {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    private final Set<String> issuedKeys;
+
+    public ClientKeys(Collection<String> issuedKeys) {
+        this.issuedKeys = issuedKeys.stream()
+                .filter(key -> key != null && !key.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && issuedKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,38 @@
+package com.camping.legacy.web;
+
+import com.camping.legacy.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 컨트롤러 밖(인터셉터)에서 CampingExceptionHandler와 같은 ErrorResponse 본문을 쓴다
+ * 본문은 ErrorCode별로 한 번만 직렬화해 두고 요청마다 재사용한다.
+ */
+final class ErrorResponseWriter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ErrorCode errorCode;
+    private final byte[] body;
+
+    ErrorResponseWriter(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+        try {
+            this.body = OBJECT_MAPPER.writeValueAsBytes(errorCode.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오류 응답 직렬화 실패: " + errorCode, e);
+        }
+    }
+
+    void write(HttpServletResponse response) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(body);
+    }
+}
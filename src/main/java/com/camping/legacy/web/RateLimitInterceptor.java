@@ -0,0 +1,143 @@
+package com.camping.legacy.web;
+
+import com.camping.legacy.exception.ErrorCode;
+import com.camping.legacy.util.TokenBucket;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클라이언트별 토큰 버킷 요청 제한 (API 호출 입장 제어)
+ *
+ * - 엔드포인트 그룹(예약, 검색, 캘린더, 기타)마다 별도 예산
+ * - 초과 시 429 + Retry-After
+ * - 한동안 요청이 없는 버킷은 주기적으로 제거하고, 최대 개수를 넘으면
+ *   정책별 공용 버킷을 사용해 메모리를 제한한다
+ */
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final ErrorResponseWriter REJECTED = new ErrorResponseWriter(ErrorCode.TOO_MANY_REQUESTS);
+
+    private final List<Policy> policies;
+    private final int maxBuckets;
+    private final ClientKeys clientKeys;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> overflowBuckets = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(List<Policy> policies, int maxBuckets, ClientKeys clientKeys) {
+        this.policies = policies;
+        this.maxBuckets = maxBuckets;
+        this.clientKeys = clientKeys;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        Policy policy = findPolicy(request);
+        if (policy == null) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        long waitNanos = bucketFor(policy, clientKeys.resolve(request), now).tryAcquire(now);
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        policy.rejected.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.debug("요청 제한: {} {} (정책 {})", request.getMethod(), request.getRequestURI(), policy.name);
+
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        REJECTED.write(response);
+        return false;
+    }
+
+    /**
+     * 정책별 거부 횟수와 현재 버킷 수
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        Map<String, Long> rejected = new LinkedHashMap<>();
+        for (Policy policy : policies) {
+            rejected.put(policy.name, policy.rejected.sum());
+        }
+        statistics.put("rejected", rejected);
+        statistics.put("activeBuckets", buckets.size());
+        return statistics;
+    }
+
+    @Scheduled(fixedDelay = 30000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private TokenBucket bucketFor(Policy policy, String clientKey, long now) {
+        String key = policy.name + '|' + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            // 버킷이 너무 많으면 (IP 분산 공격 등) 정책별 공용 버킷으로 제한
+            return overflowBuckets.computeIfAbsent(policy.name, name -> policy.newBucket(now));
+        }
+        return buckets.computeIfAbsent(key, k -> policy.newBucket(now));
+    }
+
+    private Policy findPolicy(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        for (Policy policy : policies) {
+            if (policy.matches(method, path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 엔드포인트 그룹별 예산
+     */
+    @Getter
+    public static class Policy {
+        private final String name;
+        private final String method;
+        private final String pathPrefix;
+        private final long permitsPerMinute;
+        private final int burst;
+        private final LongAdder rejected = new LongAdder();
+
+        /**
+         * @param method null이면 모든 HTTP 메서드
+         */
+        public Policy(String name, String method, String pathPrefix, long permitsPerMinute, int burst) {
+            this.name = name;
+            this.method = method;
+            this.pathPrefix = pathPrefix;
+            this.permitsPerMinute = permitsPerMinute;
+            this.burst = burst;
+        }
+
+        private boolean matches(String requestMethod, String path) {
+            return (method == null || method.equals(requestMethod)) && path.startsWith(pathPrefix);
+        }
+
+        private TokenBucket newBucket(long now) {
+            return new TokenBucket(permitsPerMinute, burst, now);
+        }
+    }
+}
@@ -37,19 +37,27 @@ INSERT INTO campsites (site_number, description, max_people) VALUES
 ('B-14', '소형 사이트 - 전기 있음, 운동장 인근', 6),
 ('B-15', '소형 사이트 - 전기 있음, 운동장 인근', 6);
 
+-- 샘플 고객 (phone_key = 숫자만 남긴 전화번호)
+INSERT INTO customers (phone_key, phone_number, name, created_at) VALUES
+('01012345678', '010-1234-5678', '홍길동', CURRENT_TIMESTAMP),
+('01023456789', '010-2345-6789', '김철수', CURRENT_TIMESTAMP),
+('01034567890', '010-3456-7890', '이영희', CURRENT_TIMESTAMP),
+('01045678901', '010-4567-8901', '박민수', CURRENT_TIMESTAMP),
+('01056789012', '010-5678-9012', '정수진', CURRENT_TIMESTAMP);
+
 -- 샘플 예약 데이터 (현재 날짜 기준으로 미래 예약)
-INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, status, confirmation_code, created_at) 
-VALUES ('홍길동', DATEADD('DAY', 7, CURRENT_DATE), DATEADD('DAY', 9, CURRENT_DATE), DATEADD('DAY', 7, CURRENT_DATE), 1, '010-1234-5678', 'CONFIRMED', 'ABC123', CURRENT_TIMESTAMP);
+INSERT INTO reservations (id, customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, customer_id, status, confirmation_code, created_at) 
+VALUES (NEXT VALUE FOR reservation_seq, '홍길동', DATEADD('DAY', 7, CURRENT_DATE), DATEADD('DAY', 9, CURRENT_DATE), DATEADD('DAY', 7, CURRENT_DATE), 1, '010-1234-5678', (SELECT id FROM customers WHERE phone_key = '01012345678'), 'CONFIRMED', 'ABC123', CURRENT_TIMESTAMP);
 
-INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, status, confirmation_code, created_at) 
-VALUES ('김철수', DATEADD('DAY', 14, CURRENT_DATE), DATEADD('DAY', 15, CURRENT_DATE), DATEADD('DAY', 14, CURRENT_DATE), 3, '010-2345-6789', 'CONFIRMED', 'DEF456', CURRENT_TIMESTAMP);
+INSERT INTO reservations (id, customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, customer_id, status, confirmation_code, created_at) 
+VALUES (NEXT VALUE FOR reservation_seq, '김철수', DATEADD('DAY', 14, CURRENT_DATE), DATEADD('DAY', 15, CURRENT_DATE), DATEADD('DAY', 14, CURRENT_DATE), 3, '010-2345-6789', (SELECT id FROM customers WHERE phone_key = '01023456789'), 'CONFIRMED', 'DEF456', CURRENT_TIMESTAMP);
 
-INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, status, confirmation_code, created_at) 
-VALUES ('이영희', DATEADD('DAY', 21, CURRENT_DATE), DATEADD('DAY', 23, CURRENT_DATE), DATEADD('DAY', 21, CURRENT_DATE), 6, '010-3456-7890', 'CONFIRMED', 'GHI789', CURRENT_TIMESTAMP);
+INSERT INTO reservations (id, customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, customer_id, status, confirmation_code, created_at) 
+VALUES (NEXT VALUE FOR reservation_seq, '이영희', DATEADD('DAY', 21, CURRENT_DATE), DATEADD('DAY', 23, CURRENT_DATE), DATEADD('DAY', 21, CURRENT_DATE), 6, '010-3456-7890', (SELECT id FROM customers WHERE phone_key = '01034567890'), 'CONFIRMED', 'GHI789', CURRENT_TIMESTAMP);
 
 -- 과거 예약 (버그 테스트용 - 과거 날짜 예약이 가능한 버그 확인용)
-INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, status, confirmation_code, created_at) 
-VALUES ('박민수', DATEADD('DAY', -7, CURRENT_DATE), DATEADD('DAY', -5, CURRENT_DATE), DATEADD('DAY', -7, CURRENT_DATE), 2, '010-4567-8901', 'CONFIRMED', 'JKL012', DATEADD('DAY', -14, CURRENT_TIMESTAMP));
+INSERT INTO reservations (id, customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, customer_id, status, confirmation_code, created_at) 
+VALUES (NEXT VALUE FOR reservation_seq, '박민수', DATEADD('DAY', -7, CURRENT_DATE), DATEADD('DAY', -5, CURRENT_DATE), DATEADD('DAY', -7, CURRENT_DATE), 2, '010-4567-8901', (SELECT id FROM customers WHERE phone_key = '01045678901'), 'CONFIRMED', 'JKL012', DATEADD('DAY', -14, CURRENT_TIMESTAMP));
 
-INSERT INTO reservations (customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, status, confirmation_code, created_at) 
-VALUES ('정수진', DATEADD('DAY', -3, CURRENT_DATE), DATEADD('DAY', -2, CURRENT_DATE), DATEADD('DAY', -3, CURRENT_DATE), 4, '010-5678-9012', 'CONFIRMED', 'MNO345', DATEADD('DAY', -10, CURRENT_TIMESTAMP));
\ No newline at end of file
+INSERT INTO reservations (id, customer_name, start_date, end_date, reservation_date, campsite_id, phone_number, customer_id, status, confirmation_code, created_at) 
+VALUES (NEXT VALUE FOR reservation_seq, '정수진', DATEADD('DAY', -3, CURRENT_DATE), DATEADD('DAY', -2, CURRENT_DATE), DATEADD('DAY', -3, CURRENT_DATE), 4, '010-5678-9012', (SELECT id FROM customers WHERE phone_key = '01056789012'), 'CONFIRMED', 'MNO345', DATEADD('DAY', -10, CURRENT_TIMESTAMP));
\ No newline at end of file
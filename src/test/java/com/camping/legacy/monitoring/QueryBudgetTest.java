@@ -0,0 +1,105 @@
+package com.camping.legacy.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 예산
+ *
+ * MockMvc는 요청을 테스트 스레드에서 처리하므로 QueryCounter(ThreadLocal)로 바로 셀 수 있다.
+ * N+1 쿼리가 다시 생기면 예산을 넘어 이 테스트가 실패한다.
+ * (QueryCountFilter가 요청 끝에 카운터를 지우지 않도록 헤더 노출은 끈 상태로 실행)
+ */
+@SpringBootTest(properties = "camping.query-count.header-enabled=false")
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        QueryCounter.reset();
+    }
+
+    @Test
+    @DisplayName("사이트 목록은 쿼리 1건")
+    void allSites() throws Exception {
+        mockMvc.perform(get("/api/sites"))
+                .andExpect(status().isOk());
+
+        QueryCounter.assertQueryCount(1);
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 쿼리 없이 304")
+    void allSitesNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/sites"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        QueryCounter.reset();
+        mockMvc.perform(get("/api/sites").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        QueryCounter.assertQueryCount(0);
+    }
+
+    @Test
+    @DisplayName("없는 사이트의 캘린더는 If-None-Match가 맞아도 404")
+    void unknownSiteCalendarNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/reservations/calendar")
+                        .param("year", "2099").param("month", "1").param("siteId", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+        // 아직 변경이 없는 사이트-월은 사이트가 달라도 버전이 같으므로 ETag 형식만 맞춰 보낸다
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG).replace("calendar1:", "calendar999999:");
+
+        mockMvc.perform(get("/api/reservations/calendar")
+                        .param("year", "2099").param("month", "1").param("siteId", "999999")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("사이트 상세는 쿼리 1건")
+    void siteDetail() throws Exception {
+        mockMvc.perform(get("/api/sites/1"))
+                .andExpect(status().isOk());
+
+        QueryCounter.assertQueryCount(1);
+    }
+
+    @Test
+    @DisplayName("내 예약 조회는 고객 조회 + 예약(사이트 fetch join) 2건, 하이픈 없는 번호로도 찾는다")
+    void myReservations() throws Exception {
+        mockMvc.perform(get("/api/reservations/my")
+                        .param("name", "홍길동")
+                        .param("phone", "01012345678"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        QueryCounter.assertQueryCount(2);
+    }
+
+    @Test
+    @DisplayName("포인트 잔액은 스냅샷 + 이후 거래 합계 2건")
+    void pointBalance() throws Exception {
+        mockMvc.perform(get("/api/points/balance").param("phoneNumber", "010-1234-5678"))
+                .andExpect(status().isOk());
+
+        QueryCounter.assertQueryCount(2);
+    }
+}
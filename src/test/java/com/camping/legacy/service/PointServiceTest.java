@@ -0,0 +1,73 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.domain.PointTransaction;
+import com.camping.legacy.dto.PointRedeemRequest;
+import com.camping.legacy.dto.PointTransactionResponse;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.repository.PointTransactionRepository;
+import com.camping.legacy.util.StringUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 사용: 적립/적립 취소만 예약당 한 번으로 제한되고, 사용은 같은 예약으로 여러 번 할 수 있다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:points;DB_CLOSE_DELAY=-1")
+class PointServiceTest {
+
+    private static final String PHONE_NUMBER = "010-6666-0000";
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Test
+    @DisplayName("같은 예약으로 포인트를 두 번 사용할 수 있다")
+    void redeemTwiceOnSameReservation() {
+        // 이용이 끝난 예약의 적립분 (사용 가능한 포인트)
+        pointTransactionRepository.save(new PointTransaction(StringUtils.normalizePhoneNumber(PHONE_NUMBER),
+                PointTransaction.TYPE_ACCRUAL, 5000, -1L));
+        LocalDate start = LocalDate.now().plusDays(50);
+        ReservationResponse reservation = reservationService.createReservation(request("A-16", start, start.plusDays(1)));
+
+        pointService.redeem(redeemRequest(reservation, 1000));
+        pointService.redeem(redeemRequest(reservation, 1500));
+
+        // 예약 확정 적립이 비동기로 끼어들 수 있어 잔액 대신 원장의 사용 내역을 본다
+        assertThat(pointService.getHistory(PHONE_NUMBER, 10))
+                .filteredOn(transaction -> PointTransaction.TYPE_REDEMPTION.equals(transaction.getType()))
+                .allMatch(transaction -> reservation.getId().equals(transaction.getReservationId()))
+                .extracting(PointTransactionResponse::getAmount)
+                .containsExactlyInAnyOrder(-1000, -1500);
+    }
+
+    private PointRedeemRequest redeemRequest(ReservationResponse reservation, int amount) {
+        PointRedeemRequest request = new PointRedeemRequest();
+        request.setReservationId(reservation.getId());
+        request.setConfirmationCode(reservation.getConfirmationCode());
+        request.setAmount(amount);
+        return request;
+    }
+
+    private ReservationRequest request(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        ReservationRequest request = new ReservationRequest();
+        request.setSiteNumber(siteNumber);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setCustomerName("포인트고객");
+        request.setPhoneNumber(PHONE_NUMBER);
+        return request;
+    }
+}
@@ -0,0 +1,233 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.analytics.ReservationStatusCode;
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사이트에 대한 동시 예약 생성/수정
+ *
+ * - 생성은 사이트 쓰기 잠금으로 직렬화되므로 겹치지 않는 기간은 모두 성공하고, 겹치면 하나만 성공한다
+ * - 수정은 예약/사이트 버전 충돌 시 ReservationUpdateService가 다시 실행하므로 동시 수정이 서로를 덮어쓰지 않는다
+ * 어떤 경우에도 한 사이트의 유효 예약 기간은 겹치지 않아야 한다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:concurrency;DB_CLOSE_DELAY=-1")
+class ReservationConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationUpdateService reservationUpdateService;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 사이트의 겹치지 않는 기간을 동시에 예약하면 모두 성공한다")
+    void concurrentCreatesOnDisjointRanges() throws Exception {
+        LocalDate base = LocalDate.now().plusDays(40);
+        List<Callable<ReservationResponse>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            LocalDate start = base.plusDays(i * 2L);
+            tasks.add(() -> reservationService.createReservation(request("A-5", start, start.plusDays(1))));
+        }
+
+        List<Object> results = runConcurrently(tasks);
+
+        assertThat(results).allMatch(ReservationResponse.class::isInstance);
+        assertThat(activeReservations("A-5")).hasSize(THREADS);
+        assertNoOverlap("A-5");
+    }
+
+    @Test
+    @DisplayName("같은 사이트의 같은 기간을 동시에 예약하면 하나만 성공한다")
+    void concurrentCreatesOnSameRange() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDate start = LocalDate.now().plusDays(40 + round * 3L);
+            List<Callable<ReservationResponse>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                tasks.add(() -> reservationService.createReservation(request("A-6", start, start.plusDays(1))));
+            }
+
+            List<Object> results = runConcurrently(tasks);
+
+            assertThat(results).filteredOn(ReservationResponse.class::isInstance).hasSize(1);
+            assertThat(results).filteredOn(result -> !(result instanceof ReservationResponse))
+                    .allMatch(result -> isConflict(result, ErrorCode.RESERVATION_CONFLICT));
+        }
+        assertNoOverlap("A-6");
+    }
+
+    @Test
+    @DisplayName("예약 수정과 생성이 같은 기간을 노리면 하나만 성공하고 기간이 겹치지 않는다")
+    void editRacesCreate() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDate start = LocalDate.now().plusDays(40 + round * 6L);
+            ReservationResponse existing = reservationService.createReservation(request("A-7", start, start.plusDays(1)));
+            LocalDate target = start.plusDays(3);
+
+            ReservationRequest move = new ReservationRequest();
+            move.setStartDate(target);
+            move.setEndDate(target.plusDays(1));
+            List<Callable<ReservationResponse>> tasks = List.of(
+                    () -> reservationUpdateService.updateReservation(existing.getId(), move, existing.getConfirmationCode()),
+                    () -> reservationService.createReservation(request("A-7", target, target.plusDays(1))));
+
+            List<Object> results = runConcurrently(tasks);
+
+            assertThat(results).filteredOn(ReservationResponse.class::isInstance).hasSize(1);
+            assertNoOverlap("A-7");
+        }
+    }
+
+    @Test
+    @DisplayName("두 예약을 동시에 같은 기간으로 옮기면 하나만 성공한다")
+    void concurrentEditsOntoSameRange() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDate start = LocalDate.now().plusDays(40 + round * 8L);
+            ReservationResponse first = reservationService.createReservation(request("A-9", start, start.plusDays(1)));
+            ReservationResponse second = reservationService.createReservation(request("A-9", start.plusDays(2), start.plusDays(3)));
+            LocalDate target = start.plusDays(5);
+
+            List<Callable<ReservationResponse>> tasks = new ArrayList<>();
+            for (ReservationResponse reservation : List.of(first, second)) {
+                ReservationRequest move = new ReservationRequest();
+                move.setStartDate(target);
+                move.setEndDate(target.plusDays(1));
+                tasks.add(() -> reservationUpdateService.updateReservation(reservation.getId(), move, reservation.getConfirmationCode()));
+            }
+
+            List<Object> results = runConcurrently(tasks);
+
+            assertThat(results).filteredOn(ReservationResponse.class::isInstance).hasSize(1);
+            assertNoOverlap("A-9");
+        }
+    }
+
+    @Test
+    @DisplayName("같은 예약을 동시에 수정해도 각 수정 내용이 모두 남는다")
+    void concurrentEditsDoNotLoseUpdates() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDate start = LocalDate.now().plusDays(40 + round * 6L);
+            ReservationResponse existing = reservationService.createReservation(request("A-8", start, start.plusDays(1)));
+            LocalDate movedStart = start.plusDays(2);
+            String newName = "변경고객" + round;
+
+            ReservationRequest move = new ReservationRequest();
+            move.setStartDate(movedStart);
+            move.setEndDate(movedStart.plusDays(1));
+            ReservationRequest rename = new ReservationRequest();
+            rename.setCustomerName(newName);
+            List<Callable<ReservationResponse>> tasks = List.of(
+                    () -> reservationUpdateService.updateReservation(existing.getId(), move, existing.getConfirmationCode()),
+                    () -> reservationUpdateService.updateReservation(existing.getId(), rename, existing.getConfirmationCode()));
+
+            List<Object> results = runConcurrently(tasks);
+
+            assertThat(results).allMatch(ReservationResponse.class::isInstance);
+            ReservationResponse updated = reservationService.getReservation(existing.getId());
+            assertThat(updated.getStartDate()).isEqualTo(movedStart);
+            assertThat(updated.getEndDate()).isEqualTo(movedStart.plusDays(1));
+            assertThat(updated.getCustomerName()).isEqualTo(newName);
+        }
+        assertNoOverlap("A-8");
+    }
+
+    // 모든 작업을 동시에 출발시키고 결과(응답 또는 예외)를 모은다
+    private List<Object> runConcurrently(List<Callable<ReservationResponse>> tasks) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReservationResponse>> futures = new ArrayList<>();
+        for (Callable<ReservationResponse> task : tasks) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return task.call();
+            }));
+        }
+        ready.await(5, TimeUnit.SECONDS);
+        start.countDown();
+
+        List<Object> results = new ArrayList<>();
+        for (Future<ReservationResponse> future : futures) {
+            try {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                results.add(e.getCause());
+            } catch (java.util.concurrent.TimeoutException e) {
+                throw new AssertionError("동시 요청이 끝나지 않음", e);
+            }
+        }
+        return results;
+    }
+
+    private boolean isConflict(Object result, ErrorCode errorCode) {
+        return result instanceof CampingException && ((CampingException) result).getErrorCode() == errorCode;
+    }
+
+    private List<ReservationResponse> activeReservations(String siteNumber) {
+        return reservationService.getAllReservations().stream()
+                .filter(reservation -> siteNumber.equals(reservation.getSiteNumber()))
+                .filter(reservation -> ReservationStatusCode.isActive(ReservationStatusCode.of(reservation.getStatus())))
+                .collect(Collectors.toList());
+    }
+
+    private void assertNoOverlap(String siteNumber) {
+        List<ReservationResponse> reservations = activeReservations(siteNumber);
+        for (int i = 0; i < reservations.size(); i++) {
+            for (int j = i + 1; j < reservations.size(); j++) {
+                ReservationResponse a = reservations.get(i);
+                ReservationResponse b = reservations.get(j);
+                assertThat(!a.getStartDate().isAfter(b.getEndDate()) && !b.getStartDate().isAfter(a.getEndDate()))
+                        .as("%s 이중 예약: %d(%s ~ %s) / %d(%s ~ %s)", siteNumber,
+                                a.getId(), a.getStartDate(), a.getEndDate(), b.getId(), b.getStartDate(), b.getEndDate())
+                        .isFalse();
+            }
+        }
+    }
+
+    private ReservationRequest request(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        ReservationRequest request = new ReservationRequest();
+        request.setSiteNumber(siteNumber);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setCustomerName("동시성고객");
+        request.setPhoneNumber("010-9999-0000");
+        return request;
+    }
+}
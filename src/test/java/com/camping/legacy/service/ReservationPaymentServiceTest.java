@@ -0,0 +1,152 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.payment.PaymentCommand;
+import com.camping.legacy.payment.PaymentGateway;
+import com.camping.legacy.payment.PaymentResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 사가: 예약에 반영할 수 없게 된 승인은 환불된다.
+ * 게이트웨이 응답을 붙잡아 두고, 그 사이 예약을 취소하거나 정리 작업처럼 보상한 뒤 승인을 돌려준다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:payment-saga;DB_CLOSE_DELAY=-1")
+class ReservationPaymentServiceTest {
+
+    @Autowired
+    private ReservationPaymentService reservationPaymentService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private HeldPaymentGateway paymentGateway;
+
+    @Test
+    @DisplayName("결제 대기 중 취소된 예약의 승인은 환불되고 예약은 취소 상태로 남는다")
+    void approvalAfterCancelIsRefunded() throws InterruptedException {
+        CountDownLatch release = paymentGateway.hold();
+        LocalDate start = LocalDate.now().plusDays(50);
+        ReservationResponse pending = reservationPaymentService.reserveWithPayment(request("A-13", start, start.plusDays(1)), "CARD");
+
+        reservationService.cancelReservation(pending.getId(), pending.getConfirmationCode());
+        release.countDown();
+
+        assertThat(paymentGateway.awaitRefund(pending.getId())).isTrue();
+        assertThat(reservationService.getReservation(pending.getId()).getStatus()).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    @DisplayName("정리 작업이 보상한 뒤 도착한 승인은 환불되고 예약은 결제 실패 상태로 남는다")
+    void approvalAfterSweepIsRefunded() throws InterruptedException {
+        CountDownLatch release = paymentGateway.hold();
+        LocalDate start = LocalDate.now().plusDays(50);
+        ReservationResponse pending = reservationPaymentService.reserveWithPayment(request("A-14", start, start.plusDays(1)), "CARD");
+
+        // compensateStalePendingPayments가 시간 초과 예약에 하는 것과 같은 보상
+        reservationService.compensatePayment(pending.getId(), "결제 응답 시간 초과");
+        release.countDown();
+
+        assertThat(paymentGateway.awaitRefund(pending.getId())).isTrue();
+        assertThat(reservationService.getReservation(pending.getId()).getStatus()).isEqualTo("PAYMENT_FAILED");
+    }
+
+    @Test
+    @DisplayName("결제 대기 상태에서 도착한 승인은 확정되고 환불되지 않는다")
+    void approvalWhilePendingIsConfirmed() throws InterruptedException {
+        CountDownLatch release = paymentGateway.hold();
+        LocalDate start = LocalDate.now().plusDays(50);
+        ReservationResponse pending = reservationPaymentService.reserveWithPayment(request("A-15", start, start.plusDays(1)), "CARD");
+
+        release.countDown();
+
+        assertThat(awaitStatus(pending.getId(), "CONFIRMED")).isTrue();
+        assertThat(paymentGateway.refunded).doesNotContain(pending.getId());
+    }
+
+    private boolean awaitStatus(Long id, String status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (status.equals(reservationService.getReservation(id).getStatus())) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    private ReservationRequest request(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        ReservationRequest request = new ReservationRequest();
+        request.setSiteNumber(siteNumber);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setCustomerName("결제고객");
+        request.setPhoneNumber("010-7777-0000");
+        return request;
+    }
+
+    @TestConfiguration
+    static class HeldPaymentGatewayConfig {
+
+        @Bean
+        @Primary
+        HeldPaymentGateway heldPaymentGateway() {
+            return new HeldPaymentGateway();
+        }
+    }
+
+    // hold()로 받은 래치가 풀릴 때까지 승인을 돌려주지 않는 게이트웨이
+    static class HeldPaymentGateway implements PaymentGateway {
+
+        private volatile CountDownLatch release = new CountDownLatch(0);
+        private final List<Long> refunded = new CopyOnWriteArrayList<>();
+
+        CountDownLatch hold() {
+            release = new CountDownLatch(1);
+            return release;
+        }
+
+        @Override
+        public PaymentResult pay(PaymentCommand command) {
+            CountDownLatch latch = release;
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return PaymentResult.approved("TEST-" + command.getReservationId());
+        }
+
+        @Override
+        public PaymentResult refund(PaymentCommand command, String approvalNumber) {
+            refunded.add(command.getReservationId());
+            return PaymentResult.approved("REFUND-" + approvalNumber);
+        }
+
+        boolean awaitRefund(Long reservationId) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                if (refunded.contains(reservationId)) {
+                    return true;
+                }
+                Thread.sleep(20);
+            }
+            return false;
+        }
+    }
+}
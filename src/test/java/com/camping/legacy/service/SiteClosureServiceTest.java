@@ -0,0 +1,70 @@
+package com.camping.legacy.service;
+
+import com.camping.legacy.dto.ReservationRequest;
+import com.camping.legacy.dto.ReservationResponse;
+import com.camping.legacy.dto.SiteClosureRequest;
+import com.camping.legacy.dto.SiteClosureResponse;
+import com.camping.legacy.exception.CampingException;
+import com.camping.legacy.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사이트 폐쇄: 겹치는 예약을 취소하고, 이후 폐쇄 기간은 예약할 수 없다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:site-closure;DB_CLOSE_DELAY=-1")
+class SiteClosureServiceTest {
+
+    @Autowired
+    private SiteClosureService siteClosureService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Test
+    @DisplayName("폐쇄 기간의 예약은 취소되고 같은 기간에 다시 예약할 수 없다")
+    void closedRangeIsNotBookable() {
+        LocalDate start = LocalDate.now().plusDays(50);
+        ReservationResponse existing = reservationService.createReservation(request("A-10", start, start.plusDays(1)));
+
+        SiteClosureResponse closure = siteClosureService.closeSites(
+                new SiteClosureRequest(List.of("A-10"), start, start.plusDays(2), "기상 악화"));
+
+        assertThat(closure.getCancelledReservationIds()).containsExactly(existing.getId());
+        assertThat(reservationService.getReservation(existing.getId()).getStatus()).isEqualTo("CANCELLED");
+        assertThatThrownBy(() -> reservationService.createReservation(request("A-10", start.plusDays(1), start.plusDays(1))))
+                .isInstanceOf(CampingException.class)
+                .extracting(e -> ((CampingException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SITE_CLOSED);
+    }
+
+    @Test
+    @DisplayName("폐쇄 기간 밖이나 다른 사이트는 예약할 수 있다")
+    void outsideClosedRangeIsBookable() {
+        LocalDate start = LocalDate.now().plusDays(60);
+        siteClosureService.closeSites(new SiteClosureRequest(List.of("A-11"), start, start.plusDays(2), "정비"));
+
+        assertThat(reservationService.createReservation(request("A-11", start.plusDays(3), start.plusDays(4))).getStatus())
+                .isEqualTo("CONFIRMED");
+        assertThat(reservationService.createReservation(request("A-12", start, start.plusDays(1))).getStatus())
+                .isEqualTo("CONFIRMED");
+    }
+
+    private ReservationRequest request(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        ReservationRequest request = new ReservationRequest();
+        request.setSiteNumber(siteNumber);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setCustomerName("폐쇄테스트");
+        request.setPhoneNumber("010-8888-0000");
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package com.camping.legacy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * EpochDays 기반 가격 계산이 기존 하루 단위 루프(LocalDate.plusDays)와 같은 결과를 내는지,
+ * 숙박 일수가 늘어도 할당량이 늘지 않는지 확인한다.
+ */
+class PriceCalculatorTest {
+
+    private static final long SEED = 20240701L;
+    private static final int SAMPLES = 5_000;
+    private static final String[] SITES = {"A-1", "B-7", "C-2"};
+
+    @Test
+    @DisplayName("임의 기간의 총 가격이 하루 단위 루프와 같다")
+    void totalPriceMatchesPerNightLoop() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            String siteNumber = SITES[random.nextInt(SITES.length)];
+            LocalDate startDate = randomDate(random);
+            LocalDate endDate = startDate.plusDays(random.nextInt(800) - 5);
+
+            assertThat(PriceCalculator.calculateTotalPrice(siteNumber, startDate, endDate))
+                    .as("%s %s ~ %s", siteNumber, startDate, endDate)
+                    .isEqualTo(perNightTotal(siteNumber, startDate, endDate));
+        }
+    }
+
+    @Test
+    @DisplayName("임의 기간의 주말/성수기 일수와 날짜 변환이 java.time과 같다")
+    void epochDaysMatchesJavaTime() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SAMPLES; i++) {
+            LocalDate startDate = randomDate(random);
+            LocalDate endDate = startDate.plusDays(random.nextInt(800));
+            long startDay = startDate.toEpochDay();
+            long endDay = endDate.toEpochDay();
+
+            long weekend = 0;
+            long peak = 0;
+            long peakWeekend = 0;
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                boolean isWeekend = isWeekend(date);
+                boolean isPeak = isPeakSeason(date);
+                weekend += isWeekend ? 1 : 0;
+                peak += isPeak ? 1 : 0;
+                peakWeekend += isWeekend && isPeak ? 1 : 0;
+            }
+
+            assertThat(EpochDays.countWeekendDays(startDay, endDay)).as("주말 %s ~ %s", startDate, endDate).isEqualTo(weekend);
+            assertThat(EpochDays.countPeakSeasonDays(startDay, endDay)).as("성수기 %s ~ %s", startDate, endDate).isEqualTo(peak);
+            assertThat(EpochDays.countPeakSeasonWeekendDays(startDay, endDay))
+                    .as("성수기 주말 %s ~ %s", startDate, endDate).isEqualTo(peakWeekend);
+
+            assertThat(EpochDays.dayOfWeek(startDay)).isEqualTo(startDate.getDayOfWeek().getValue());
+            assertThat(EpochDays.year(startDay)).isEqualTo(startDate.getYear());
+            assertThat(EpochDays.month(startDay)).isEqualTo(startDate.getMonthValue());
+            assertThat(EpochDays.dayOfMonth(startDay)).isEqualTo(startDate.getDayOfMonth());
+            assertThat(EpochDays.fromCivil(startDate.getYear(), startDate.getMonthValue(), startDate.getDayOfMonth()))
+                    .isEqualTo(startDay);
+        }
+    }
+
+    @Test
+    @DisplayName("숙박 일수가 늘어도 가격 계산의 할당량은 늘지 않는다")
+    void allocationDoesNotGrowWithNights() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "스레드별 할당량을 잴 수 없는 JVM");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "스레드별 할당량을 잴 수 없는 JVM");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        long startDay = LocalDate.of(2024, 6, 20).toEpochDay();
+        int calls = 20_000;
+        // JIT 워밍업
+        allocatedBytes(threadBean, startDay, 1, calls);
+        allocatedBytes(threadBean, startDay, 3_650, calls);
+
+        long shortStay = allocatedBytes(threadBean, startDay, 1, calls);
+        long longStay = allocatedBytes(threadBean, startDay, 3_650, calls);
+
+        // 하루 단위 루프였다면 긴 숙박은 호출마다 LocalDate 수천 개를 만든다 (호출당 수십 KB)
+        assertThat(longStay - shortStay)
+                .as("1박 %d바이트, 3650박 %d바이트 (%d회 호출)", shortStay, longStay, calls)
+                .isLessThan(calls * 16L);
+    }
+
+    private long allocatedBytes(com.sun.management.ThreadMXBean threadBean, long startDay, int nights, int calls) {
+        long threadId = Thread.currentThread().getId();
+        long sum = 0;
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < calls; i++) {
+            sum += PriceCalculator.calculateTotalPrice(80000, startDay + (i & 63), startDay + (i & 63) + nights - 1);
+        }
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+        assertThat(sum).isPositive();
+        return after - before;
+    }
+
+    // 기존 구현: 하루씩 LocalDate를 만들며 요금을 더한다
+    private int perNightTotal(String siteNumber, LocalDate startDate, LocalDate endDate) {
+        int basePrice = PriceCalculator.basePrice(siteNumber);
+        long total = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            boolean isWeekend = isWeekend(date);
+            boolean isPeakSeason = isPeakSeason(date);
+            if (isWeekend && isPeakSeason) {
+                total += (int) (basePrice * 1.7);
+            } else if (isPeakSeason) {
+                total += (int) (basePrice * 1.5);
+            } else if (isWeekend) {
+                total += (int) (basePrice * 1.3);
+            } else {
+                total += basePrice;
+            }
+        }
+        return (int) total;
+    }
+
+    private boolean isWeekend(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+
+    private boolean isPeakSeason(LocalDate date) {
+        return date.getMonthValue() == 7 || date.getMonthValue() == 8;
+    }
+
+    // 1900 ~ 2300년 (연도별 성수기 표 범위 밖도 포함)
+    private LocalDate randomDate(Random random) {
+        long from = LocalDate.of(1900, 1, 1).toEpochDay();
+        long to = LocalDate.of(2300, 12, 31).toEpochDay();
+        return LocalDate.ofEpochDay(from + (long) (random.nextDouble() * (to - from)));
+    }
+}
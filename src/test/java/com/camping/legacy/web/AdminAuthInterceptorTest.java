@@ -0,0 +1,65 @@
+package com.camping.legacy.web;
+
+import com.camping.legacy.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 운영자 API는 X-Admin-Token이 맞을 때만 처리한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admin-auth;DB_CLOSE_DELAY=-1",
+        "camping.admin.token=test-admin-token"
+})
+@AutoConfigureMockMvc
+class AdminAuthInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("토큰 없이 운영자 API를 호출하면 401")
+    void missingToken() throws Exception {
+        mockMvc.perform(get("/api/admin/rate-limits"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/sites/closures")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"siteNumbers\":[\"A-1\"],\"startDate\":\"2099-01-01\",\"endDate\":\"2099-01-02\"}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/reservations/archive"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("틀린 토큰이면 401")
+    void wrongToken() throws Exception {
+        mockMvc.perform(get("/api/admin/datasources").header(AdminAuthInterceptor.ADMIN_TOKEN_HEADER, "guess"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(ErrorCode.ADMIN_AUTH_REQUIRED.name()))
+                .andExpect(jsonPath("$.message").value(ErrorCode.ADMIN_AUTH_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("맞는 토큰이면 처리한다")
+    void validToken() throws Exception {
+        mockMvc.perform(get("/api/admin/rate-limits").header(AdminAuthInterceptor.ADMIN_TOKEN_HEADER, "test-admin-token"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("운영자 API가 아니면 토큰 없이 처리한다")
+    void publicApi() throws Exception {
+        mockMvc.perform(get("/api/sites"))
+                .andExpect(status().isOk());
+    }
+}